@@ -0,0 +1,20 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.benchmark;
+
+final class BenchmarkSpecifications {
+
+  static final String RESOURCES_DIRECTORY = "src/test/resources";
+
+  static final String OPENAPI_DIRECTORY = RESOURCES_DIRECTORY + "/openapi";
+
+  static final String ASYNCAPI_DIRECTORY = RESOURCES_DIRECTORY + "/asyncapi";
+
+  private BenchmarkSpecifications() {
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.sngular.multiapi.converter.MultiApiContractConverter;
+import com.sngular.multiapi.converter.util.SpecificationGenerator;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.contract.spec.Contract;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultiApiContractConverterBenchmark {
+
+  @Benchmark
+  public Collection<Contract> convertCold(final Fixtures fixtures) {
+    return new MultiApiContractConverter().convertFrom(fixtures.file);
+  }
+
+  @Benchmark
+  public Collection<Contract> convertWarm(final Fixtures fixtures) {
+    return fixtures.multiApiContractConverter.convertFrom(fixtures.file);
+  }
+
+  @Benchmark
+  public Collection<Contract> convertScaledCold(final ScaledFixtures fixtures) {
+    return new MultiApiContractConverter().convertFrom(fixtures.file);
+  }
+
+  @Benchmark
+  public Collection<Contract> convertScaledWarm(final ScaledFixtures fixtures) {
+    return fixtures.multiApiContractConverter.convertFrom(fixtures.file);
+  }
+
+  @State(Scope.Benchmark)
+  public static class Fixtures {
+
+    private final MultiApiContractConverter multiApiContractConverter = new MultiApiContractConverter();
+
+    @Param({"openapi/testCompleteApi.yml", "openapi/testAnyOfs.yml", "asyncapi/event-api.yml", "asyncapi/testExternalFilesWithMultipleSchemas.yml"})
+    private String specification;
+
+    private File file;
+
+    @Setup
+    public void setUp() {
+      file = new File(BenchmarkSpecifications.RESOURCES_DIRECTORY, specification);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ScaledFixtures {
+
+    private final MultiApiContractConverter multiApiContractConverter = new MultiApiContractConverter();
+
+    @Param({"openapi", "asyncapi"})
+    private String api;
+
+    @Param({"10", "100", "500"})
+    private int paths;
+
+    @Param({"1", "3"})
+    private int depth;
+
+    @Param({"0", "2"})
+    private int width;
+
+    private Path directory;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+      directory = Files.createTempDirectory("scc-multiapi-benchmark");
+      final var generator = SpecificationGenerator.builder().paths(paths).schemas(Math.max(1, paths / 5)).depth(depth).width(width).externalFiles(2).build();
+      file = "openapi".equals(api) ? generator.writeOpenApi(directory) : generator.writeAsyncApi(directory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      FileUtils.deleteDirectory(directory.toFile());
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.benchmark;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import com.sngular.multiapi.converter.openapi.OpenApiContractConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.contract.spec.Contract;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenApiContractConverterBenchmark {
+
+  private final OpenApiContractConverter openApiContractConverter = new OpenApiContractConverter();
+
+  @Param({"testCompleteApi.yml", "testAnyOfs.yml", "testOneOfs.yml", "testComplexObjects.yml", "testExternalRef.yml"})
+  private String specification;
+
+  private File file;
+
+  @Setup
+  public void setUp() {
+    file = new File(BenchmarkSpecifications.OPENAPI_DIRECTORY, specification);
+  }
+
+  @Benchmark
+  public Collection<Contract> convertCold() {
+    return new OpenApiContractConverter().convertFrom(file);
+  }
+
+  @Benchmark
+  public Collection<Contract> convertWarm() {
+    return openApiContractConverter.convertFrom(file);
+  }
+}
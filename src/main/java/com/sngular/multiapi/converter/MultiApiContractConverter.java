@@ -8,14 +8,30 @@ package com.sngular.multiapi.converter;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sngular.multiapi.converter.asyncapi.AsyncApiContractConverter;
 import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
+import com.sngular.multiapi.converter.model.ConverterSettings;
 import com.sngular.multiapi.converter.openapi.OpenApiContractConverter;
+import com.sngular.multiapi.converter.utils.ApiDocumentDetector;
 import com.sngular.multiapi.converter.utils.BasicTypeConstants;
+import com.sngular.multiapi.converter.utils.ConversionManifest;
+import com.sngular.multiapi.converter.utils.DocumentCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.contract.spec.Contract;
 import org.springframework.cloud.contract.spec.ContractConverter;
@@ -23,52 +39,200 @@ import org.springframework.cloud.contract.spec.ContractConverter;
 @Slf4j
 public final class MultiApiContractConverter implements ContractConverter<Collection<Contract>> {
 
-  private static final OpenApiContractConverter OPEN_API_CONTRACT_CONVERTER = new OpenApiContractConverter();
+  private final ConverterSettings settings;
 
-  private static final AsyncApiContractConverter ASYNC_API_CONTRACT_CONVERTER = new AsyncApiContractConverter();
+  private final ApiDocumentDetector apiDocumentDetector;
+
+  private final ConversionManifest manifest;
+
+  private final OpenApiContractConverter openApiContractConverter;
+
+  private final AsyncApiContractConverter asyncApiContractConverter;
+
+  public MultiApiContractConverter() {
+    this(ConverterSettings.fromSystemProperties());
+  }
+
+  public MultiApiContractConverter(final ConverterSettings settings) {
+    this.settings = settings;
+    this.apiDocumentDetector = new ApiDocumentDetector(settings.getDetectionByteLimit(), settings.getDetectionTokenLimit());
+    this.openApiContractConverter = new OpenApiContractConverter(settings);
+    this.asyncApiContractConverter = new AsyncApiContractConverter(new DocumentCache(settings.getDocumentCacheSize()));
+    this.manifest = Objects.nonNull(settings.getIncrementalDirectory()) ? new ConversionManifest(settings.getIncrementalDirectory(), settings) : null;
+  }
 
   @Override
   public boolean isAccepted(final File file) {
-    final String name = file.getName();
-    boolean isAccepted = name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".json");
-    if (isAccepted) {
-      try {
-        final JsonNode node;
-        node = BasicTypeConstants.OBJECT_MAPPER.readTree(file);
-        isAccepted = node != null && node.size() > 0 && (Objects.nonNull(node.get(BasicTypeConstants.ASYNCAPI)) || Objects.nonNull(node.get(BasicTypeConstants.OPENAPI)));
-      } catch (final IOException e) {
-        isAccepted = false;
-      }
-    }
-    return isAccepted;
+    return hasSupportedExtension(file) && apiDocumentDetector.isApiDocument(file);
   }
 
   @Override
   public Collection<Contract> convertFrom(final File file) {
 
     Collection<Contract> contracts = null;
-    final JsonNode node;
-    if (isAccepted(file)) {
-      try {
-        node = BasicTypeConstants.OBJECT_MAPPER.readTree(file);
-        if (node != null && node.size() > 0) {
-          if (Objects.nonNull(node.get(BasicTypeConstants.ASYNCAPI))) {
-            contracts = ASYNC_API_CONTRACT_CONVERTER.convertFrom(file);
-          } else if (Objects.nonNull(node.get(BasicTypeConstants.OPENAPI))) {
-            contracts = OPEN_API_CONTRACT_CONVERTER.convertFrom(file);
-          }
-        } else {
-          throw new MultiApiContractConverterException("Yaml file is not correct");
+    if (hasSupportedExtension(file)) {
+      if (Objects.nonNull(manifest)) {
+        contracts = convertIncrementally(file);
+      } else {
+        contracts = convertContent(file, readContent(file), new HashSet<>());
+      }
+    }
+    return contracts;
+  }
+
+  public List<Contract> convertFrom(final List<File> files) {
+    final ForkJoinPool pool = new ForkJoinPool(settings.getParallelism());
+    try {
+      return convertFrom(files, pool);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  public List<Contract> convertFrom(final List<File> files, final Executor executor) {
+    final List<CompletableFuture<Collection<Contract>>> conversions = new ArrayList<>();
+    for (final File file : files) {
+      conversions.add(CompletableFuture.supplyAsync(() -> convertFrom(file), executor));
+    }
+    final List<Contract> contracts = new ArrayList<>();
+    for (final CompletableFuture<Collection<Contract>> conversion : conversions) {
+      final Collection<Contract> converted = joinConversion(conversion);
+      if (Objects.nonNull(converted)) {
+        contracts.addAll(converted);
+      }
+    }
+    return contracts;
+  }
+
+  public Stream<Contract> streamFrom(final File file) {
+    Stream<Contract> contracts = Stream.empty();
+    if (hasSupportedExtension(file)) {
+      if (Objects.nonNull(manifest)) {
+        contracts = Objects.requireNonNullElse(convertIncrementally(file), List.<Contract>of()).stream();
+      } else {
+        final JsonNode node = readContent(file);
+        if (isApiDocument(node)) {
+          contracts = streamContent(file, node, new HashSet<>());
         }
-      } catch (final IOException e) {
-        throw new MultiApiContractConverterException(e);
       }
     }
     return contracts;
   }
 
+  public List<Contract> convertDirectory(final File directory) {
+    return convertFrom(listSpecifications(directory));
+  }
+
+  public List<Contract> convertDirectory(final File directory, final Executor executor) {
+    return convertFrom(listSpecifications(directory), executor);
+  }
+
   @Override
   public Collection<Contract> convertTo(final Collection<Contract> contract) {
     return contract;
   }
+
+  private Collection<Contract> convertIncrementally(final File file) {
+    final byte[] content = readBytes(file);
+    Collection<Contract> contracts;
+    if (Objects.isNull(content)) {
+      contracts = convertContent(file, readContent(file), new HashSet<>());
+    } else {
+      final String hash = ConversionManifest.hash(content);
+      contracts = manifest.findContracts(file, hash);
+      if (Objects.isNull(contracts)) {
+        final Set<Path> dependencies = new HashSet<>();
+        contracts = convertContent(file, readContent(content), dependencies);
+        if (Objects.nonNull(contracts)) {
+          manifest.store(file, hash, dependencies, contracts);
+        }
+      }
+    }
+    return contracts;
+  }
+
+  private Collection<Contract> convertContent(final File file, final JsonNode node, final Set<Path> dependencies) {
+    Collection<Contract> contracts = null;
+    if (isApiDocument(node)) {
+      if (Objects.nonNull(node.get(BasicTypeConstants.ASYNCAPI))) {
+        contracts = asyncApiContractConverter.convertFrom(file, node, dependencies);
+      } else {
+        contracts = openApiContractConverter.convertFrom(file, node, dependencies);
+      }
+    }
+    return contracts;
+  }
+
+  private Stream<Contract> streamContent(final File file, final JsonNode node, final Set<Path> dependencies) {
+    final Stream<Contract> contracts;
+    if (Objects.nonNull(node.get(BasicTypeConstants.ASYNCAPI))) {
+      contracts = asyncApiContractConverter.streamFrom(file, node, dependencies);
+    } else {
+      contracts = openApiContractConverter.streamFrom(file, node, dependencies);
+    }
+    return contracts;
+  }
+
+  private List<File> listSpecifications(final File directory) {
+    try (Stream<Path> paths = Files.walk(directory.toPath())) {
+      return paths
+                 .filter(Files::isRegularFile)
+                 .map(Path::toFile)
+                 .filter(this::isAccepted)
+                 .sorted()
+                 .collect(Collectors.toList());
+    } catch (final IOException e) {
+      throw new MultiApiContractConverterException(e);
+    }
+  }
+
+  private static Collection<Contract> joinConversion(final CompletableFuture<Collection<Contract>> conversion) {
+    try {
+      return conversion.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new MultiApiContractConverterException(e);
+    }
+  }
+
+  private static boolean hasSupportedExtension(final File file) {
+    final String name = file.getName();
+    return name.endsWith(".yml") || name.endsWith(".yaml") || name.endsWith(".json");
+  }
+
+  private static boolean isApiDocument(final JsonNode node) {
+    return node != null && node.size() > 0 && (Objects.nonNull(node.get(BasicTypeConstants.ASYNCAPI)) || Objects.nonNull(node.get(BasicTypeConstants.OPENAPI)));
+  }
+
+  private static JsonNode readContent(final File file) {
+    JsonNode node;
+    try {
+      node = BasicTypeConstants.OBJECT_MAPPER.readTree(file);
+    } catch (final IOException e) {
+      node = null;
+    }
+    return node;
+  }
+
+  private static JsonNode readContent(final byte[] content) {
+    JsonNode node;
+    try {
+      node = BasicTypeConstants.OBJECT_MAPPER.readTree(content);
+    } catch (final IOException e) {
+      node = null;
+    }
+    return node;
+  }
+
+  private static byte[] readBytes(final File file) {
+    byte[] content;
+    try {
+      content = Files.readAllBytes(file.toPath());
+    } catch (final IOException e) {
+      content = null;
+    }
+    return content;
+  }
 }
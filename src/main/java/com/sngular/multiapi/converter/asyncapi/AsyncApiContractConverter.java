@@ -13,21 +13,27 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sngular.multiapi.converter.exception.ElementNotFoundException;
 import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
-import lombok.extern.slf4j.Slf4j;
+import com.sngular.multiapi.converter.model.ConverterSettings;
 import com.sngular.multiapi.converter.utils.BasicTypeConstants;
-import com.sngular.multiapi.converter.utils.RandomGenerator;
-import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.lang3.tuple.MutablePair;
-import org.apache.commons.lang3.tuple.Pair;
+import com.sngular.multiapi.converter.utils.DocumentCache;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.contract.spec.Contract;
 import org.springframework.cloud.contract.spec.internal.Input;
 import org.springframework.cloud.contract.spec.internal.OutputMessage;
@@ -36,46 +42,68 @@ import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
 @Slf4j
 public final class AsyncApiContractConverter {
 
-  private File basePath;
+  private final DocumentCache documentCache;
+
+  public AsyncApiContractConverter() {
+    this(new DocumentCache(ConverterSettings.DEFAULT_DOCUMENT_CACHE_SIZE));
+  }
+
+  public AsyncApiContractConverter(final DocumentCache documentCache) {
+    this.documentCache = documentCache;
+  }
 
   public Collection<Contract> convertFrom(final File file) {
-    basePath = file.getParentFile();
-    final Collection<Contract> sccContracts = new ArrayList<>();
+    Collection<Contract> sccContracts = new ArrayList<>();
+    try {
+      sccContracts = convertFrom(file, BasicTypeConstants.OBJECT_MAPPER.readTree(file));
+    } catch (final IOException e) {
+      log.error("Error", e);
+    }
+    return sccContracts;
+  }
+
+  public Collection<Contract> convertFrom(final File file, final JsonNode fileContent) {
+    return convertFrom(file, fileContent, new HashSet<>());
+  }
+
+  public Collection<Contract> convertFrom(final File file, final JsonNode fileContent, final Set<Path> dependencies) {
+    return streamFrom(file, fileContent, dependencies).collect(Collectors.toList());
+  }
 
+  public Stream<Contract> streamFrom(final File file, final JsonNode fileContent, final Set<Path> dependencies) {
+    final var context = new AsyncApiConversionContext(file, dependencies);
+    final Iterator<Entry<String, JsonNode>> channels = fileContent.get(BasicTypeConstants.CHANNELS).fields();
+    return StreamSupport
+               .stream(Spliterators.spliteratorUnknownSize(channels, Spliterator.ORDERED), false)
+               .map(channel -> processChannel(context, channel.getKey(), channel.getValue(), fileContent))
+               .takeWhile(Objects::nonNull);
+  }
+
+  private Contract processChannel(final AsyncApiConversionContext context, final String topicName, final JsonNode channel, final JsonNode fileContent) {
+    Contract contract = new Contract();
     try {
-      final var fileContent = BasicTypeConstants.OBJECT_MAPPER.readTree(file);
-      final var channelsNode = fileContent.get(BasicTypeConstants.CHANNELS);
-
-      final Iterator<JsonNode> it = channelsNode.elements();
-      final Iterator<String> topicIterator = channelsNode.fieldNames();
-      while (it.hasNext()) {
-        final Contract contract = new Contract();
-
-        final JsonNode channel = it.next();
-        final String operationType = channel.fieldNames().next();
-        final JsonNode operationContent = AsyncApiContractConverterUtils.subscribeOrPublishOperation(channel);
-        final String operationId = operationContent.get("operationId").asText();
-        contract.setName(operationId);
-        final ResponseBodyMatchers responseBodyMatchers = new ResponseBodyMatchers();
-        final Map<String, Object> bodyProcessed = processMessage(responseBodyMatchers, operationContent, fileContent, operationType);
-        contract.label(operationId);
-
-        final String topicName = topicIterator.next();
-        if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-          processSubscribeOperation(contract, bodyProcessed, topicName, operationId);
-        } else if (operationType.equals(BasicTypeConstants.PUBLISH)) {
-          processPublishOperation(contract, operationId, responseBodyMatchers, bodyProcessed, topicName);
-        }
-        sccContracts.add(contract);
+      final String operationType = channel.fieldNames().next();
+      final JsonNode operationContent = AsyncApiContractConverterUtils.subscribeOrPublishOperation(channel);
+      final String operationId = operationContent.get("operationId").asText();
+      contract.setName(operationId);
+      final IndexedResponseBodyMatchers responseBodyMatchers = new IndexedResponseBodyMatchers();
+      final Map<String, Object> bodyProcessed = processMessage(context, responseBodyMatchers, operationContent, fileContent, operationType);
+      contract.label(operationId);
+
+      if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
+        processSubscribeOperation(contract, bodyProcessed, topicName, operationId);
+      } else if (operationType.equals(BasicTypeConstants.PUBLISH)) {
+        processPublishOperation(contract, operationId, responseBodyMatchers, bodyProcessed, topicName);
       }
     } catch (final IOException e) {
       log.error("Error", e);
+      contract = null;
     }
-    return sccContracts;
+    return contract;
   }
 
   private void processPublishOperation(
-      final Contract contract, final String operationId, final ResponseBodyMatchers responseBodyMatchers, final Map<String, Object> bodyProcessed, final String topicName) {
+      final Contract contract, final String operationId, final IndexedResponseBodyMatchers responseBodyMatchers, final Map<String, Object> bodyProcessed, final String topicName) {
     final Input input = new Input();
     input.triggeredBy(operationId + "Send()");
     contract.setInput(input);
@@ -84,7 +112,7 @@ public final class AsyncApiContractConverter {
     outputMessage.sentTo(topicName);
 
     outputMessage.body(bodyProcessed);
-    outputMessage.setBodyMatchers(responseBodyMatchers);
+    outputMessage.setBodyMatchers(responseBodyMatchers.toResponseBodyMatchers());
     contract.setOutputMessage(outputMessage);
   }
 
@@ -101,10 +129,10 @@ public final class AsyncApiContractConverter {
   }
 
   private Map<String, Object> processMessage(
-      final ResponseBodyMatchers responseBodyMatchers, final JsonNode operationContent, final JsonNode fileContent, final String operationType)
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final JsonNode operationContent, final JsonNode fileContent,
+      final String operationType)
       throws IOException {
     final JsonNode message;
-    final String ref;
     final Map<String, Object> messageBody = new HashMap<>();
 
     message = operationContent.get("message");
@@ -112,14 +140,11 @@ public final class AsyncApiContractConverter {
 
     if (message.has(BasicTypeConstants.REF)) {
       if (message.get(BasicTypeConstants.REF).asText().startsWith("#")) {
-        final String[] pathToRef = message.get(BasicTypeConstants.REF).asText().split("/");
-        ref = pathToRef[pathToRef.length - 1];
-        final var payload = fileContent.findPath(ref);
+        final var payload = context.resolveReference(fileContent, message.get(BasicTypeConstants.REF).asText());
 
-        messageBody.putAll(processSchemas(responseBodyMatchers, operationType, payload.fieldNames().next(), payload, fileContent, ""));
+        messageBody.putAll(processSchemas(context, responseBodyMatchers, operationType, payload.fieldNames().next(), payload, fileContent, ""));
       } else {
-        final var fillProperties = processAvro(responseBodyMatchers, message);
-        messageBody.putAll(fillProperties.getValue());
+        messageBody.putAll(processAvro(context, responseBodyMatchers, message));
       }
     } else if (message.has(BasicTypeConstants.PAYLOAD)) {
       final var payload = message.get(BasicTypeConstants.PAYLOAD);
@@ -127,30 +152,27 @@ public final class AsyncApiContractConverter {
       if (payload.has(BasicTypeConstants.REF)) {
         final var referredPayload = payload.get(BasicTypeConstants.REF).asText();
         if (referredPayload.startsWith("#")) {
-          final String[] pathToRef = referredPayload.split("/");
-          final var length = pathToRef.length;
-          ref = pathToRef[length - 1];
-          messageBody.putAll(fillObjectProperties(responseBodyMatchers, fileContent.findPath(ref).get(BasicTypeConstants.PROPERTIES), "", operationType, fileContent));
+          final var properties = context.resolveReference(fileContent, referredPayload).get(BasicTypeConstants.PROPERTIES);
+          messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, properties, "", operationType, fileContent));
         } else if (referredPayload.contains(".yml")) {
           final String[] pathToRef = referredPayload.split("#");
-          messageBody.putAll(processExternalFile(pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, ""));
+          messageBody.putAll(processExternalFile(context, pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, ""));
         } else {
-          messageBody.putAll(fillObjectProperties(responseBodyMatchers, payload, "", operationType, fileContent));
+          messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, payload, "", operationType, fileContent));
         }
       } else {
-        messageBody.putAll(fillObjectProperties(responseBodyMatchers, payload, "", operationType, fileContent));
+        messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, payload, "", operationType, fileContent));
       }
     } else {
-      messageBody.putAll(fillObjectProperties(responseBodyMatchers, message, "", operationType, fileContent));
+      messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, message, "", operationType, fileContent));
     }
     return messageBody;
   }
 
   private Map<String, Object> processSchemas(
-      final ResponseBodyMatchers responseBodyMatchers, final String operationType, final String fieldName,
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final String operationType, final String fieldName,
       final JsonNode payload, final JsonNode fileContent, final String bodyMatcherPath) throws IOException {
     final JsonNode properties;
-    final String ref;
     final Map<String, Object> messageBody = new HashMap<>();
 
     AsyncApiContractConverterUtils.checkIfReferenceWithProperties(payload.get(fieldName));
@@ -158,23 +180,19 @@ public final class AsyncApiContractConverter {
     if (payload.get(fieldName).has(BasicTypeConstants.REF)) {
       final var referencedNode = payload.get(fieldName).get(BasicTypeConstants.REF).asText();
       if (referencedNode.startsWith("#")) {
-        final String[] pathToRef = payload.get(fieldName).get(BasicTypeConstants.REF).asText().split("/");
-        final var length = pathToRef.length;
-        ref = pathToRef[length - 1];
-        properties = fileContent.findPath(ref).get(BasicTypeConstants.PROPERTIES);
-        messageBody.putAll(processProperties(responseBodyMatchers, operationType, fileContent, bodyMatcherPath, properties));
+        properties = context.resolveReference(fileContent, referencedNode).get(BasicTypeConstants.PROPERTIES);
+        messageBody.putAll(processProperties(context, responseBodyMatchers, operationType, fileContent, bodyMatcherPath, properties));
 
       } else if (referencedNode.contains(".yml")) {
         final String[] pathToRef = referencedNode.split("#");
-        messageBody.putAll(processExternalFile(pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, bodyMatcherPath));
+        messageBody.putAll(processExternalFile(context, pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, bodyMatcherPath));
       } else {
-        final var fillProperties = processAvro(responseBodyMatchers, payload);
-        messageBody.putAll(fillProperties.getValue());
+        messageBody.putAll(processAvro(context, responseBodyMatchers, payload));
       }
     } else {
       if (payload.get(BasicTypeConstants.PAYLOAD).has(BasicTypeConstants.PROPERTIES)) {
         properties = payload.get(BasicTypeConstants.PAYLOAD).get(BasicTypeConstants.PROPERTIES);
-        messageBody.putAll(processProperties(responseBodyMatchers, operationType, fileContent, bodyMatcherPath, properties));
+        messageBody.putAll(processProperties(context, responseBodyMatchers, operationType, fileContent, bodyMatcherPath, properties));
 
       } else {
         if (payload.has(BasicTypeConstants.PAYLOAD)) {
@@ -182,7 +200,7 @@ public final class AsyncApiContractConverter {
         } else {
           properties = payload;
         }
-        messageBody.putAll(fillObjectProperties(responseBodyMatchers, properties, bodyMatcherPath, operationType, fileContent));
+        messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, properties, bodyMatcherPath, operationType, fileContent));
       }
 
     }
@@ -190,7 +208,8 @@ public final class AsyncApiContractConverter {
   }
 
   private Map<String, Object> processProperties(
-      final ResponseBodyMatchers responseBodyMatchers, final String operationType, final JsonNode fileContent, final String bodyMatcherPath,
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final String operationType, final JsonNode fileContent,
+      final String bodyMatcherPath,
       final JsonNode properties) throws IOException {
     final var propertiesName = properties.fieldNames();
     final Map<String, Object> messageBody = new HashMap<>();
@@ -199,31 +218,36 @@ public final class AsyncApiContractConverter {
       final var propertyName = propertiesName.next();
 
       if (properties.get(propertyName).has(BasicTypeConstants.REF)) {
-        messageBody.put(propertyName, processSchemas(responseBodyMatchers, operationType, propertyName, properties, fileContent, propertyName + "."));
+        messageBody.put(propertyName, processSchemas(context, responseBodyMatchers, operationType, propertyName, properties, fileContent, propertyName + "."));
       } else {
         final ObjectNode propertiesToFill = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
         propertiesToFill.set(propertyName, properties.get(propertyName));
-        messageBody.putAll(fillObjectProperties(responseBodyMatchers, propertiesToFill, bodyMatcherPath, operationType, fileContent));
+        messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, propertiesToFill, bodyMatcherPath, operationType, fileContent));
       }
     }
     return messageBody;
   }
 
   private Map<String, Object> processExternalFile(
-      final String externalFilePath, final String schemaPath, final ResponseBodyMatchers responseBodyMatchers, final String operationType,
+      final AsyncApiConversionContext context, final String externalFilePath, final String schemaPath, final ResponseBodyMatchers responseBodyMatchers, final String operationType,
+      final String bodyMatcherPath)
+      throws IOException {
+    final Path externalFile = composePath(context.getBasePath().toPath(), externalFilePath);
+    context.addDependency(externalFile);
+    return context.processExternalSchema(externalFile, schemaPath, operationType, bodyMatcherPath, responseBodyMatchers,
+                                         schemaMatchers -> processExternalSchema(context, externalFile, schemaPath, schemaMatchers, operationType, bodyMatcherPath));
+  }
+
+  private Map<String, Object> processExternalSchema(
+      final AsyncApiConversionContext context, final Path externalFile, final String schemaPath, final ResponseBodyMatchers responseBodyMatchers, final String operationType,
       final String bodyMatcherPath)
       throws IOException {
     final Map<String, Object> messageBody = new HashMap<>();
     final JsonNode schema;
 
-    final Path externalFile = composePath(basePath.toPath(), externalFilePath);
-    final var externalFileContent = BasicTypeConstants.OBJECT_MAPPER.readTree(externalFile.toFile());
+    final var externalFileContent = documentCache.read(externalFile);
 
-    final String[] splitSchemaPath = schemaPath.split("/");
-    final var length = splitSchemaPath.length;
-    final String ref = splitSchemaPath[length - 1];
-
-    schema = externalFileContent.findPath(ref).get(BasicTypeConstants.PROPERTIES);
+    schema = context.resolveReference(externalFileContent, schemaPath).get(BasicTypeConstants.PROPERTIES);
     final var fieldNames = schema.fieldNames();
 
     while (fieldNames.hasNext()) {
@@ -233,15 +257,15 @@ public final class AsyncApiContractConverter {
         final var reference = fieldNode.get(BasicTypeConstants.REF).asText();
         if (reference.contains(".yml")) {
           final String[] pathToRef = reference.split("#");
-          messageBody.put(fieldName, processExternalFile(pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, bodyMatcherPath));
+          messageBody.put(fieldName, processExternalFile(context, pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, bodyMatcherPath));
         } else {
           final var bodyMatcherPathObject = bodyMatcherPath + fieldName + ".";
-          messageBody.put(fieldName, processSchemas(responseBodyMatchers, operationType, fieldName, schema, externalFileContent, bodyMatcherPathObject));
+          messageBody.put(fieldName, processSchemas(context, responseBodyMatchers, operationType, fieldName, schema, externalFileContent, bodyMatcherPathObject));
         }
       } else {
         final ObjectNode propertiesToFill = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
         propertiesToFill.set(fieldName, fieldNode);
-        messageBody.putAll(fillObjectProperties(responseBodyMatchers, propertiesToFill, bodyMatcherPath, operationType, externalFileContent));
+        messageBody.putAll(fillObjectProperties(context, responseBodyMatchers, propertiesToFill, bodyMatcherPath, operationType, externalFileContent));
       }
     }
 
@@ -281,7 +305,7 @@ public final class AsyncApiContractConverter {
   }
 
   private Map<String, Object> fillObjectProperties(
-      final ResponseBodyMatchers responseBodyMatchers, final JsonNode properties, final String rootProperty, final String operationType,
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final JsonNode properties, final String rootProperty, final String operationType,
       final JsonNode fileContent) throws IOException {
 
     final Iterator<String> fieldNames = properties.fieldNames();
@@ -292,18 +316,16 @@ public final class AsyncApiContractConverter {
       final var path = rootProperty + property;
       if (!properties.get(property).has(BasicTypeConstants.PROPERTIES)
           || !properties.get(property).get(BasicTypeConstants.PROPERTIES).has(BasicTypeConstants.REF)) {
-        messageBody.putAll(processObjectProperties(responseBodyMatchers, properties, operationType, fileContent, property, path));
+        messageBody.putAll(processObjectProperties(context, responseBodyMatchers, properties, operationType, fileContent, property, path));
       } else {
         final var subProperties = properties.get(property).get(BasicTypeConstants.PROPERTIES);
 
         if (subProperties.get(BasicTypeConstants.REF).asText().contains(".yml")) {
           final String[] pathToRef = subProperties.get(BasicTypeConstants.REF).asText().split("#");
-          messageBody.putAll(processExternalFile(pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, path));
+          messageBody.putAll(processExternalFile(context, pathToRef[0], pathToRef[1], responseBodyMatchers, operationType, path));
         } else {
-          final String[] pathToObject = subProperties.get(BasicTypeConstants.REF).asText().split("/");
-          final var body = pathToObject[pathToObject.length - 1];
-          final var schema = fileContent.findPath(body).get(BasicTypeConstants.PROPERTIES);
-          messageBody.put(property, fillObjectProperties(responseBodyMatchers, schema, path + ".", operationType, fileContent));
+          final var schema = context.resolveReference(fileContent, subProperties.get(BasicTypeConstants.REF).asText()).get(BasicTypeConstants.PROPERTIES);
+          messageBody.put(property, fillObjectProperties(context, responseBodyMatchers, schema, path + ".", operationType, fileContent));
         }
       }
     }
@@ -312,7 +334,7 @@ public final class AsyncApiContractConverter {
   }
 
   private Map<String, Object> processObjectProperties(
-      final ResponseBodyMatchers responseBodyMatchers, final JsonNode properties, final String operationType, final JsonNode fileContent,
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final JsonNode properties, final String operationType, final JsonNode fileContent,
       final String property, final String path) throws IOException {
     final Map<String, Object> messageBody = new HashMap<>();
 
@@ -354,12 +376,12 @@ public final class AsyncApiContractConverter {
         AsyncApiContractConverterUtils.processEnumPropertyType(responseBodyMatchers, properties, operationType, messageBody, property, path, enumType);
         break;
       case BasicTypeConstants.OBJECT:
-        messageBody.put(property, fillObjectProperties(responseBodyMatchers, properties.get(property).get(BasicTypeConstants.PROPERTIES), path + ".", operationType,
+        messageBody.put(property, fillObjectProperties(context, responseBodyMatchers, properties.get(property).get(BasicTypeConstants.PROPERTIES), path + ".", operationType,
                                                        fileContent));
         break;
       case BasicTypeConstants.ARRAY:
         messageBody.put(property,
-                        processArray(responseBodyMatchers, property, properties.get(property).get("items"), path, operationType, fileContent));
+                        processArray(context, responseBodyMatchers, property, properties.get(property).get("items"), path, operationType, fileContent));
         break;
       default:
         throw new ElementNotFoundException(BasicTypeConstants.TYPE);
@@ -368,7 +390,7 @@ public final class AsyncApiContractConverter {
   }
 
   private List<Object> processArray(
-      final ResponseBodyMatchers responseBodyMatchers, final String property, final JsonNode properties, final String path,
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final String property, final JsonNode properties, final String path,
       final String operationType, final JsonNode node) throws IOException {
     final List<Object> resultArray = new ArrayList<>();
     JsonNode internalProperties = properties;
@@ -378,24 +400,23 @@ public final class AsyncApiContractConverter {
     if (properties.has(BasicTypeConstants.REF)) {
       if (properties.get(BasicTypeConstants.REF).asText().contains(".yml")) {
         final String[] pathToSchema = properties.get(BasicTypeConstants.REF).asText().split("#");
-        resultArray.add(processExternalFile(pathToSchema[0], pathToSchema[1], responseBodyMatchers, operationType, path));
+        resultArray.add(processExternalFile(context, pathToSchema[0], pathToSchema[1], responseBodyMatchers, operationType, path));
       } else if (properties.get(BasicTypeConstants.REF).asText().startsWith("#")) {
-        final String[] pathToObject = properties.get(BasicTypeConstants.REF).asText().split("/");
-        final var body = pathToObject[pathToObject.length - 1];
-        internalProperties = node.findPath(body);
-        resultArray.addAll(processInternalArray(responseBodyMatchers, property, internalProperties, path, operationType, node));
+        internalProperties = context.resolveReference(node, properties.get(BasicTypeConstants.REF).asText());
+        resultArray.addAll(processInternalArray(context, responseBodyMatchers, property, internalProperties, path, operationType, node));
       } else {
-        resultArray.addAll(processInternalArray(responseBodyMatchers, property, internalProperties, path, operationType, node));
+        resultArray.addAll(processInternalArray(context, responseBodyMatchers, property, internalProperties, path, operationType, node));
       }
     } else {
-      resultArray.addAll(processInternalArray(responseBodyMatchers, property, internalProperties, path, operationType, node));
+      resultArray.addAll(processInternalArray(context, responseBodyMatchers, property, internalProperties, path, operationType, node));
     }
 
     return resultArray;
   }
 
   private List<Object> processInternalArray(
-      final ResponseBodyMatchers responseBodyMatchers, final String property, final JsonNode properties, final String path, final String operationType, final JsonNode node)
+      final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final String property, final JsonNode properties, final String path,
+      final String operationType, final JsonNode node)
       throws IOException {
     final List<Object> arrayValues = new ArrayList<>();
     String enumType = "";
@@ -440,7 +461,7 @@ public final class AsyncApiContractConverter {
         AsyncApiContractConverterUtils.processArrayEnumType(responseBodyMatchers, property, path, operationType, arrayValues, enumType, internalProperties);
         break;
       case BasicTypeConstants.OBJECT:
-        arrayValues.add(fillObjectProperties(responseBodyMatchers, internalProperties, path + ".", operationType, node));
+        arrayValues.add(fillObjectProperties(context, responseBodyMatchers, internalProperties, path + ".", operationType, node));
         break;
       default:
         throw new ElementNotFoundException(BasicTypeConstants.TYPE);
@@ -448,116 +469,14 @@ public final class AsyncApiContractConverter {
     return arrayValues;
   }
 
-  private Pair<JsonNode, Map<String, Object>> fillObjectPropertiesFromAvro(final ResponseBodyMatchers responseBodyMatchers, final ArrayNode properties, final String rootProperty) {
-    final ObjectNode result = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
-    final Map<String, Object> messageBody = new HashMap<>();
-
-    for (int i = 0; i < properties.size(); i++) {
-      var type = AsyncApiContractConverterUtils.getType(properties.get(i));
-      if (type.isEmpty()) {
-        type = properties.get(i).get(BasicTypeConstants.TYPE).get(BasicTypeConstants.TYPE).asText();
-      }
-      final String fieldName = properties.get(i).get(BasicTypeConstants.NAME).asText();
-      final String path = rootProperty + properties.get(i).get(BasicTypeConstants.NAME).asText();
-
-      switch (type) {
-        case BasicTypeConstants.STRING:
-          final String randomString = RandomStringUtils.random(5, true, false);
-          result.put(fieldName, randomString);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex(BasicTypeConstants.STRING_REGEX));
-          messageBody.put(fieldName, randomString);
-          break;
-        case BasicTypeConstants.DATE:
-          final String randomDate = RandomGenerator.getRandomDate();
-          result.put(fieldName, randomDate);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex(BasicTypeConstants.DATE_REGEX));
-          messageBody.put(fieldName, randomDate);
-          break;
-        case BasicTypeConstants.DATE_TIME:
-          final String randomDateTime = RandomGenerator.getRandomDateTime();
-          result.put(fieldName, randomDateTime);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex(BasicTypeConstants.DATE_TIME_REGEX));
-          messageBody.put(fieldName, randomDateTime);
-          break;
-        case BasicTypeConstants.TIME:
-          final String randomTime = RandomGenerator.getRandomTime();
-          result.put(fieldName, randomTime);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex(BasicTypeConstants.TIME_REGEX));
-          messageBody.put(fieldName, randomTime);
-          break;
-        case BasicTypeConstants.INT_64:
-        case BasicTypeConstants.LONG:
-          final long randomLong = BasicTypeConstants.RANDOM.nextLong();
-          result.put(properties.get(i).get(BasicTypeConstants.NAME).asText(), randomLong);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex("[0-9]+"));
-          messageBody.put(fieldName, randomLong);
-          break;
-        case BasicTypeConstants.INT_32:
-        case BasicTypeConstants.INTEGER:
-          final int randomInt = BasicTypeConstants.RANDOM.nextInt();
-          result.put(properties.get(i).get(BasicTypeConstants.NAME).asText(), randomInt);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex("[0-9]+"));
-          messageBody.put(fieldName, randomInt);
-          break;
-        case BasicTypeConstants.BOOLEAN:
-          final List<Boolean> list = new ArrayList<>();
-          list.add(true);
-          list.add(false);
-          final Boolean randomBoolean = list.get(BasicTypeConstants.RANDOM.nextInt(2));
-          result.put(fieldName, randomBoolean);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex("^(true|false)$"));
-          messageBody.put(fieldName, randomBoolean);
-          break;
-        case BasicTypeConstants.ENUM:
-          final var symbols = (ArrayNode) properties.get(i).get("type").get("symbols");
-          final var symbol = symbols.get(BasicTypeConstants.RANDOM.nextInt(symbols.size())).textValue();
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex("^(" + joinValues(symbols) + ")$"));
-          messageBody.put(fieldName, symbol);
-          break;
-        case BasicTypeConstants.FLOAT:
-          final float randomDecimal = BasicTypeConstants.RANDOM.nextFloat() * BasicTypeConstants.RANDOM.nextInt();
-          result.put(fieldName, randomDecimal);
-          responseBodyMatchers.jsonPath("$." + path, responseBodyMatchers.byRegex("/^\\d*\\.?\\d*$/"));
-          messageBody.put(fieldName, randomDecimal);
-          break;
-        case "record":
-          final var subObject = fillObjectPropertiesFromAvro(responseBodyMatchers, (ArrayNode) properties.get(i).get(BasicTypeConstants.TYPE).get("fields"), path + ".");
-          result.putIfAbsent(fieldName, subObject.getKey());
-          messageBody.put(fieldName, subObject.getValue());
-          break;
-        default:
-          throw new ElementNotFoundException(BasicTypeConstants.TYPE);
-      }
-    }
-    return new MutablePair<>(result, messageBody);
-  }
-
-  private String joinValues(final ArrayNode symbols) {
-    final var iterator = symbols.elements();
-    final var builder = new StringBuilder();
-    while (iterator.hasNext()) {
-      builder.append(iterator.next().textValue());
-      if (iterator.hasNext()) {
-        builder.append("|");
-      }
-    }
-    return builder.toString();
-  }
-
-  private Pair<JsonNode, Map<String, Object>> processAvro(final ResponseBodyMatchers responseBodyMatchers, final JsonNode jsonNode) {
+  private Map<String, Object> processAvro(final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers, final JsonNode jsonNode)
+      throws IOException {
     var avroFilePath = jsonNode.get(BasicTypeConstants.REF).asText();
     if (avroFilePath.matches("^\\w.*$")) {
-      avroFilePath = composePath(basePath.getPath(), avroFilePath).toString();
-    }
-    final var avroFile = new File(avroFilePath);
-    JsonNode fileTree = null;
-
-    try {
-      fileTree = BasicTypeConstants.OBJECT_MAPPER.readTree(avroFile);
-    } catch (final IOException e) {
-      log.error("Error", e);
+      avroFilePath = composePath(context.getBasePath().getPath(), avroFilePath).toString();
     }
-      assert fileTree != null;
-      return fillObjectPropertiesFromAvro(responseBodyMatchers, (ArrayNode) fileTree.get("fields"), "");
+    final var avroFile = Paths.get(avroFilePath);
+    context.addDependency(avroFile);
+    return documentCache.compile(avroFile, AvroSchemaPlan.class, AvroSchemaPlan::compile).apply(responseBodyMatchers);
   }
 }
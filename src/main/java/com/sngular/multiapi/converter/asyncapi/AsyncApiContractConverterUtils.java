@@ -13,7 +13,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
 import com.sngular.multiapi.converter.utils.BasicTypeConstants;
@@ -144,9 +143,9 @@ public final class AsyncApiContractConverterUtils {
 
   public static void processArrayEnumType(
       final ResponseBodyMatchers responseBodyMatchers, final String property, final String path, final String operationType, final List<Object> arrayValues, final String enumType,
-      final JsonNode internalProperties) throws JsonProcessingException {
+      final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(AsyncApiContractConverterUtils.processEnumTypes(arrayNode.get(i)));
       }
@@ -160,10 +159,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayBooleanType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asBoolean());
       }
@@ -176,23 +174,21 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayDoubleType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     processArrayDecimalNumberType(responseBodyMatchers, path, operationType, arrayValues, internalProperties, BasicTypeConstants.DOUBLE);
   }
 
   public static void processArrayFloatType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     processArrayDecimalNumberType(responseBodyMatchers, path, operationType, arrayValues, internalProperties, BasicTypeConstants.FLOAT);
   }
 
   private static void processArrayDecimalNumberType(
       final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties,
-      final String type) throws JsonProcessingException {
+      final String type) {
 
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         if (BasicTypeConstants.DOUBLE.equals(type)) {
           arrayValues.add(arrayNode.get(i).asDouble());
@@ -213,10 +209,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayNumberType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asInt());
       }
@@ -229,10 +224,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayStringType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asText());
       }
@@ -245,10 +239,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayDateType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asText());
       }
@@ -261,10 +254,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayDateTimeType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asText());
       }
@@ -277,10 +269,9 @@ public final class AsyncApiContractConverterUtils {
   }
 
   public static void processArrayTimeType(
-      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties)
-      throws JsonProcessingException {
+      final ResponseBodyMatchers responseBodyMatchers, final String path, final String operationType, final List<Object> arrayValues, final JsonNode internalProperties) {
     if (operationType.equals(BasicTypeConstants.SUBSCRIBE)) {
-      final var arrayNode = BasicTypeConstants.OBJECT_MAPPER.readTree(internalProperties.toString()).get(BasicTypeConstants.EXAMPLE);
+      final var arrayNode = internalProperties.get(BasicTypeConstants.EXAMPLE);
       for (int i = 0; i < arrayNode.size(); i++) {
         arrayValues.add(arrayNode.get(i).asText());
       }
@@ -295,9 +286,12 @@ public final class AsyncApiContractConverterUtils {
   public static boolean isNotRegexIncluded(final ResponseBodyMatchers responseBodyMatchers, final String property) {
     var isIncluded = false;
 
-    for (final org.springframework.cloud.contract.spec.internal.BodyMatcher bodyMatcher : responseBodyMatchers.matchers()) {
-      if (Objects.equals(bodyMatcher.path(), property)) {
-        isIncluded = true;
+    if (responseBodyMatchers instanceof IndexedResponseBodyMatchers) {
+      isIncluded = ((IndexedResponseBodyMatchers) responseBodyMatchers).contains(property);
+    } else {
+      final var bodyMatchers = responseBodyMatchers.matchers().iterator();
+      while (!isIncluded && bodyMatchers.hasNext()) {
+        isIncluded = Objects.equals(bodyMatchers.next().path(), property);
       }
     }
     return !isIncluded;
@@ -0,0 +1,132 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+@Slf4j
+final class AsyncApiConversionContext {
+
+  private final File basePath;
+
+  private final Set<Path> dependencies;
+
+  private final Map<String, JsonPointer> pointers = new HashMap<>();
+
+  private final Map<String, ExternalSchemaPlan> externalSchemaPlans = new HashMap<>();
+
+  private final Set<String> activeSchemas = new HashSet<>();
+
+  private final Deque<SchemaVisit> schemaVisits = new ArrayDeque<>();
+
+  AsyncApiConversionContext(final File file, final Set<Path> dependencies) {
+    this.basePath = file.getParentFile();
+    this.dependencies = dependencies;
+  }
+
+  File getBasePath() {
+    return basePath;
+  }
+
+  void addDependency(final Path dependency) {
+    dependencies.add(dependency.toAbsolutePath().normalize());
+  }
+
+  JsonNode resolveReference(final JsonNode document, final String reference) {
+    final String fragment = reference.substring(reference.indexOf('#') + 1);
+    final JsonNode target = document.at(pointers.computeIfAbsent(fragment, JsonPointer::compile));
+    if (target.isMissingNode()) {
+      throw new MultiApiContractConverterException("Reference " + reference + " can not be resolved");
+    }
+    return target;
+  }
+
+  Map<String, Object> processExternalSchema(
+      final Path file, final String pointer, final String operationType, final String bodyMatcherPath, final ResponseBodyMatchers responseBodyMatchers,
+      final ExternalSchemaProcessor processor) throws IOException {
+    final String schema = file.toAbsolutePath().normalize() + "#" + pointer + "|" + operationType;
+    final var plan = externalSchemaPlans.get(schema + "|" + bodyMatcherPath);
+    final Map<String, Object> result;
+    if (Objects.nonNull(plan) && Collections.disjoint(plan.getSchemas(), activeSchemas)) {
+      visit(plan.getSchemas());
+      result = plan.apply(responseBodyMatchers);
+    } else if (activeSchemas.contains(schema)) {
+      log.debug("Cyclic reference to {} is not expanded again", schema);
+      visit(Set.of(schema));
+      schemaVisits.forEach(SchemaVisit::truncate);
+      result = new HashMap<>();
+    } else {
+      visit(Set.of(schema));
+      result = expandExternalSchema(schema, bodyMatcherPath, responseBodyMatchers, processor);
+    }
+    return result;
+  }
+
+  private Map<String, Object> expandExternalSchema(
+      final String schema, final String bodyMatcherPath, final ResponseBodyMatchers responseBodyMatchers, final ExternalSchemaProcessor processor) throws IOException {
+    final var schemaMatchers = new IndexedResponseBodyMatchers();
+    final var schemaVisit = new SchemaVisit();
+    activeSchemas.add(schema);
+    schemaVisits.push(schemaVisit);
+    Map<String, Object> result;
+    try {
+      result = processor.process(schemaMatchers);
+    } finally {
+      schemaVisits.pop();
+      activeSchemas.remove(schema);
+    }
+    if (schemaVisit.truncated) {
+      ExternalSchemaPlan.replay(schemaMatchers.matchers(), responseBodyMatchers);
+    } else {
+      schemaVisit.schemas.add(schema);
+      final var plan = new ExternalSchemaPlan(result, schemaMatchers.matchers(), schemaVisit.schemas);
+      externalSchemaPlans.put(schema + "|" + bodyMatcherPath, plan);
+      result = plan.apply(responseBodyMatchers);
+    }
+    return result;
+  }
+
+  private void visit(final Collection<String> schemas) {
+    for (var schemaVisit : schemaVisits) {
+      schemaVisit.schemas.addAll(schemas);
+    }
+  }
+
+  @FunctionalInterface
+  interface ExternalSchemaProcessor {
+
+    Map<String, Object> process(ResponseBodyMatchers schemaMatchers) throws IOException;
+  }
+
+  private static final class SchemaVisit {
+
+    private final Set<String> schemas = new HashSet<>();
+
+    private boolean truncated;
+
+    private void truncate() {
+      truncated = true;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sngular.multiapi.converter.exception.ElementNotFoundException;
+import com.sngular.multiapi.converter.utils.BasicTypeConstants;
+import com.sngular.multiapi.converter.utils.RandomGenerator;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.cloud.contract.spec.internal.MatchingTypeValue;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+final class AvroSchemaPlan {
+
+  private static final String NUMBER_REGEX = "[0-9]+";
+
+  private static final String RECORD_TYPE = "record";
+
+  private final List<FieldPlan> fields;
+
+  private AvroSchemaPlan(final List<FieldPlan> fields) {
+    this.fields = fields;
+  }
+
+  static AvroSchemaPlan compile(final JsonNode schema) {
+    final List<FieldPlan> fields = new ArrayList<>();
+    for (final JsonNode field : schema.get("fields")) {
+      fields.add(compileField(field));
+    }
+    return new AvroSchemaPlan(fields);
+  }
+
+  Map<String, Object> apply(final ResponseBodyMatchers responseBodyMatchers) {
+    return apply(responseBodyMatchers, "");
+  }
+
+  private Map<String, Object> apply(final ResponseBodyMatchers responseBodyMatchers, final String rootProperty) {
+    final Map<String, Object> messageBody = new HashMap<>();
+    for (final FieldPlan field : fields) {
+      final String path = rootProperty + field.name;
+      if (field.isNested()) {
+        messageBody.put(field.name, field.nestedPlan.apply(responseBodyMatchers, path + "."));
+      } else {
+        messageBody.put(field.name, field.generator.get());
+        responseBodyMatchers.jsonPath("$." + path, field.matcher.apply(responseBodyMatchers));
+      }
+    }
+    return messageBody;
+  }
+
+  private static FieldPlan compileField(final JsonNode field) {
+    var type = AsyncApiContractConverterUtils.getType(field);
+    if (type.isEmpty()) {
+      type = field.get(BasicTypeConstants.TYPE).get(BasicTypeConstants.TYPE).asText();
+    }
+    final String name = field.get(BasicTypeConstants.NAME).asText();
+    final FieldPlan plan;
+    switch (type) {
+      case RECORD_TYPE:
+        plan = new FieldPlan(name, compile(field.get(BasicTypeConstants.TYPE)));
+        break;
+      case BasicTypeConstants.ENUM:
+        plan = compileEnumField(name, field);
+        break;
+      case BasicTypeConstants.INT_64:
+      case BasicTypeConstants.LONG:
+      case BasicTypeConstants.INT_32:
+      case BasicTypeConstants.INTEGER:
+      case BasicTypeConstants.FLOAT:
+        plan = compileNumberField(name, type);
+        break;
+      default:
+        plan = compileTextField(name, type);
+        break;
+    }
+    return plan;
+  }
+
+  private static FieldPlan compileEnumField(final String name, final JsonNode field) {
+    final List<String> symbols = new ArrayList<>();
+    field.get(BasicTypeConstants.TYPE).get("symbols").forEach(symbol -> symbols.add(symbol.textValue()));
+    final String symbolsRegex = "^(" + String.join("|", symbols) + ")$";
+    return new FieldPlan(name, () -> symbols.get(BasicTypeConstants.RANDOM.nextInt(symbols.size())), matchers -> matchers.byRegex(symbolsRegex));
+  }
+
+  private static FieldPlan compileNumberField(final String name, final String type) {
+    final FieldPlan plan;
+    switch (type) {
+      case BasicTypeConstants.INT_64:
+      case BasicTypeConstants.LONG:
+        plan = new FieldPlan(name, BasicTypeConstants.RANDOM::nextLong, matchers -> matchers.byRegex(NUMBER_REGEX));
+        break;
+      case BasicTypeConstants.INT_32:
+      case BasicTypeConstants.INTEGER:
+        plan = new FieldPlan(name, BasicTypeConstants.RANDOM::nextInt, matchers -> matchers.byRegex(NUMBER_REGEX));
+        break;
+      default:
+        plan = new FieldPlan(name, () -> BasicTypeConstants.RANDOM.nextFloat() * BasicTypeConstants.RANDOM.nextInt(), matchers -> matchers.byRegex("/^\\d*\\.?\\d*$/"));
+        break;
+    }
+    return plan;
+  }
+
+  private static FieldPlan compileTextField(final String name, final String type) {
+    final FieldPlan plan;
+    switch (type) {
+      case BasicTypeConstants.STRING:
+        plan = new FieldPlan(name, () -> RandomStringUtils.random(5, true, false), matchers -> matchers.byRegex(BasicTypeConstants.STRING_REGEX));
+        break;
+      case BasicTypeConstants.DATE:
+        plan = new FieldPlan(name, RandomGenerator::getRandomDate, matchers -> matchers.byRegex(BasicTypeConstants.DATE_REGEX));
+        break;
+      case BasicTypeConstants.DATE_TIME:
+        plan = new FieldPlan(name, RandomGenerator::getRandomDateTime, matchers -> matchers.byRegex(BasicTypeConstants.DATE_TIME_REGEX));
+        break;
+      case BasicTypeConstants.TIME:
+        plan = new FieldPlan(name, RandomGenerator::getRandomTime, matchers -> matchers.byRegex(BasicTypeConstants.TIME_REGEX));
+        break;
+      case BasicTypeConstants.BOOLEAN:
+        plan = new FieldPlan(name, BasicTypeConstants.RANDOM::nextBoolean, matchers -> matchers.byRegex("^(true|false)$"));
+        break;
+      default:
+        throw new ElementNotFoundException(BasicTypeConstants.TYPE);
+    }
+    return plan;
+  }
+
+  private static final class FieldPlan {
+
+    private final String name;
+
+    private final Supplier<Object> generator;
+
+    private final Function<ResponseBodyMatchers, MatchingTypeValue> matcher;
+
+    private final AvroSchemaPlan nestedPlan;
+
+    private FieldPlan(final String name, final Supplier<Object> generator, final Function<ResponseBodyMatchers, MatchingTypeValue> matcher) {
+      this.name = name;
+      this.generator = generator;
+      this.matcher = matcher;
+      this.nestedPlan = null;
+    }
+
+    private FieldPlan(final String name, final AvroSchemaPlan nestedPlan) {
+      this.name = name;
+      this.generator = null;
+      this.matcher = null;
+      this.nestedPlan = nestedPlan;
+    }
+
+    private boolean isNested() {
+      return nestedPlan != null;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+final class ExternalSchemaPlan {
+
+  private final Map<String, Object> body;
+
+  private final List<BodyMatcher> matchers;
+
+  private final Set<String> schemas;
+
+  ExternalSchemaPlan(final Map<String, Object> body, final List<BodyMatcher> matchers, final Set<String> schemas) {
+    this.body = body;
+    this.matchers = List.copyOf(matchers);
+    this.schemas = Set.copyOf(schemas);
+  }
+
+  Set<String> getSchemas() {
+    return schemas;
+  }
+
+  Map<String, Object> copyBody() {
+    return (Map<String, Object>) copy(body);
+  }
+
+  Map<String, Object> apply(final ResponseBodyMatchers responseBodyMatchers) {
+    replay(matchers, responseBodyMatchers);
+    return copyBody();
+  }
+
+  static void replay(final Collection<BodyMatcher> bodyMatchers, final ResponseBodyMatchers responseBodyMatchers) {
+    for (var bodyMatcher : bodyMatchers) {
+      if (AsyncApiContractConverterUtils.isNotRegexIncluded(responseBodyMatchers, bodyMatcher.path())) {
+        if (responseBodyMatchers instanceof IndexedResponseBodyMatchers) {
+          ((IndexedResponseBodyMatchers) responseBodyMatchers).add(bodyMatcher);
+        } else {
+          responseBodyMatchers.matchers().add(bodyMatcher);
+        }
+      }
+    }
+  }
+
+  private static Object copy(final Object value) {
+    final Object copied;
+    if (value instanceof Map) {
+      final Map<Object, Object> map = new HashMap<>();
+      for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        map.put(entry.getKey(), copy(entry.getValue()));
+      }
+      copied = map;
+    } else if (value instanceof List) {
+      final List<Object> list = value instanceof LinkedList ? new LinkedList<>() : new ArrayList<>();
+      for (Object element : (List<?>) value) {
+        list.add(copy(element));
+      }
+      copied = list;
+    } else {
+      copied = value;
+    }
+    return copied;
+  }
+}
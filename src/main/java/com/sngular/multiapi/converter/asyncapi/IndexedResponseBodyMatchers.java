@@ -0,0 +1,41 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.MatchingTypeValue;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+final class IndexedResponseBodyMatchers extends ResponseBodyMatchers {
+
+  private final Set<String> paths = new HashSet<>();
+
+  @Override
+  public void jsonPath(final String path, final MatchingTypeValue matchingTypeValue) {
+    super.jsonPath(path, matchingTypeValue);
+    paths.add(path);
+  }
+
+  void add(final BodyMatcher bodyMatcher) {
+    matchers().add(bodyMatcher);
+    paths.add(bodyMatcher.path());
+  }
+
+  boolean contains(final String path) {
+    return paths.contains(path);
+  }
+
+  ResponseBodyMatchers toResponseBodyMatchers() {
+    final ResponseBodyMatchers responseBodyMatchers = new ResponseBodyMatchers();
+    responseBodyMatchers.matchers().addAll(matchers());
+    return responseBodyMatchers;
+  }
+}
@@ -0,0 +1,18 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.model;
+
+public enum AnyOfStrategy {
+
+  EACH,
+
+  PAIRWISE,
+
+  ALL,
+
+  POWERSET
+}
@@ -0,0 +1,115 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.model;
+
+import java.io.File;
+import java.util.Locale;
+import java.util.Objects;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class ConverterSettings {
+
+  public static final String PROPERTY_PREFIX = "scc.multiapi.";
+
+  public static final long DEFAULT_DETECTION_BYTE_LIMIT = 64L * 1024L;
+
+  public static final int DEFAULT_DETECTION_TOKEN_LIMIT = 512;
+
+  public static final int DEFAULT_DOCUMENT_CACHE_SIZE = 256;
+
+  public static final AnyOfStrategy DEFAULT_ANY_OF_STRATEGY = AnyOfStrategy.POWERSET;
+
+  public static final int DEFAULT_ANY_OF_LIMIT = 64;
+
+  public static final ContractSelection DEFAULT_CONTRACT_SELECTION = ContractSelection.ALL_PAIRS;
+
+  public static final int DEFAULT_OPERATION_CONTRACT_LIMIT = 256;
+
+  public static final int DEFAULT_SPECIFICATION_CONTRACT_LIMIT = 10_000;
+
+  public static final int DEFAULT_RECURSION_DEPTH = 2;
+
+  @Builder.Default
+  long detectionByteLimit = DEFAULT_DETECTION_BYTE_LIMIT;
+
+  @Builder.Default
+  int detectionTokenLimit = DEFAULT_DETECTION_TOKEN_LIMIT;
+
+  @Builder.Default
+  int parallelism = Runtime.getRuntime().availableProcessors();
+
+  @Builder.Default
+  boolean parallelPaths = true;
+
+  File incrementalDirectory;
+
+  @Builder.Default
+  int documentCacheSize = DEFAULT_DOCUMENT_CACHE_SIZE;
+
+  @Builder.Default
+  AnyOfStrategy anyOfStrategy = DEFAULT_ANY_OF_STRATEGY;
+
+  @Builder.Default
+  int anyOfLimit = DEFAULT_ANY_OF_LIMIT;
+
+  @Builder.Default
+  ContractSelection contractSelection = DEFAULT_CONTRACT_SELECTION;
+
+  @Builder.Default
+  int operationContractLimit = DEFAULT_OPERATION_CONTRACT_LIMIT;
+
+  @Builder.Default
+  int specificationContractLimit = DEFAULT_SPECIFICATION_CONTRACT_LIMIT;
+
+  @Builder.Default
+  int recursionDepth = DEFAULT_RECURSION_DEPTH;
+
+  boolean nativeReader;
+
+  boolean preferExamples;
+
+  public static ConverterSettings defaults() {
+    return ConverterSettings.builder().build();
+  }
+
+  public static ConverterSettings fromSystemProperties() {
+    return ConverterSettings
+               .builder()
+               .detectionByteLimit(Long.getLong(PROPERTY_PREFIX + "detection.byteLimit", DEFAULT_DETECTION_BYTE_LIMIT))
+               .detectionTokenLimit(Integer.getInteger(PROPERTY_PREFIX + "detection.tokenLimit", DEFAULT_DETECTION_TOKEN_LIMIT))
+               .parallelism(Integer.getInteger(PROPERTY_PREFIX + "parallelism", Runtime.getRuntime().availableProcessors()))
+               .parallelPaths(Boolean.parseBoolean(System.getProperty(PROPERTY_PREFIX + "parallelPaths", "true")))
+               .incrementalDirectory(toFile(System.getProperty(PROPERTY_PREFIX + "incremental.directory")))
+               .documentCacheSize(Integer.getInteger(PROPERTY_PREFIX + "documentCache.size", DEFAULT_DOCUMENT_CACHE_SIZE))
+               .anyOfStrategy(toEnum("anyOf.strategy", DEFAULT_ANY_OF_STRATEGY))
+               .anyOfLimit(Integer.getInteger(PROPERTY_PREFIX + "anyOf.limit", DEFAULT_ANY_OF_LIMIT))
+               .contractSelection(toEnum("contracts.selection", DEFAULT_CONTRACT_SELECTION))
+               .operationContractLimit(Integer.getInteger(PROPERTY_PREFIX + "contracts.operationLimit", DEFAULT_OPERATION_CONTRACT_LIMIT))
+               .specificationContractLimit(Integer.getInteger(PROPERTY_PREFIX + "contracts.specificationLimit", DEFAULT_SPECIFICATION_CONTRACT_LIMIT))
+               .recursionDepth(Integer.getInteger(PROPERTY_PREFIX + "recursion.depth", DEFAULT_RECURSION_DEPTH))
+               .nativeReader(Boolean.getBoolean(PROPERTY_PREFIX + "openapi.nativeReader"))
+               .preferExamples(Boolean.getBoolean(PROPERTY_PREFIX + "openapi.preferExamples"))
+               .build();
+  }
+
+  public String contractFingerprint() {
+    return String.join("|", anyOfStrategy.name(), String.valueOf(anyOfLimit), contractSelection.name(), String.valueOf(operationContractLimit),
+                       String.valueOf(specificationContractLimit), String.valueOf(recursionDepth), String.valueOf(nativeReader), String.valueOf(preferExamples));
+  }
+
+  private static <T extends Enum<T>> T toEnum(final String property, final T defaultValue) {
+    return Enum.valueOf(defaultValue.getDeclaringClass(), System.getProperty(PROPERTY_PREFIX + property, defaultValue.name()).toUpperCase(Locale.ROOT));
+  }
+
+  private static File toFile(final String path) {
+    return Objects.nonNull(path) && !path.isBlank() ? new File(path) : null;
+  }
+}
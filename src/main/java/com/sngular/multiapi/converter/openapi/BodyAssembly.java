@@ -0,0 +1,63 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.cloud.contract.spec.internal.Body;
+import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+import org.springframework.cloud.contract.spec.internal.DslProperty;
+
+final class BodyAssembly {
+
+  private final Map<Object, Object> clientValue;
+
+  private final Map<Object, Object> serverValue;
+
+  private final BodyMatchers bodyMatchers = new BodyMatchers();
+
+  private BodyAssembly(final Map<?, ?> clientValue, final Map<?, ?> serverValue) {
+    this.clientValue = new HashMap<>(clientValue);
+    this.serverValue = new HashMap<>(serverValue);
+  }
+
+  static BodyAssembly empty() {
+    return new BodyAssembly(Map.of(), Map.of());
+  }
+
+  static BodyAssembly of(final Pair<Body, BodyMatchers> body) {
+    final var assembly = new BodyAssembly((Map<?, ?>) body.getLeft().getClientValue(), (Map<?, ?>) body.getLeft().getServerValue());
+    assembly.bodyMatchers.matchers().addAll(body.getRight().matchers());
+    return assembly;
+  }
+
+  BodyAssembly copy() {
+    final var assembly = new BodyAssembly(clientValue, serverValue);
+    assembly.bodyMatchers.matchers().addAll(bodyMatchers.matchers());
+    return assembly;
+  }
+
+  BodyAssembly put(final String property, final Body body, final BodyMatchers matchers) {
+    clientValue.put(property, body.getClientValue());
+    serverValue.put(property, body.getServerValue());
+    bodyMatchers.matchers().addAll(matchers.matchers());
+    return this;
+  }
+
+  BodyAssembly putAll(final Body body, final BodyMatchers matchers) {
+    clientValue.putAll((Map<?, ?>) body.getClientValue());
+    serverValue.putAll((Map<?, ?>) body.getServerValue());
+    bodyMatchers.matchers().addAll(matchers.matchers());
+    return this;
+  }
+
+  Pair<Body, BodyMatchers> build() {
+    return Pair.of(new Body(new DslProperty(clientValue, serverValue)), bodyMatchers);
+  }
+}
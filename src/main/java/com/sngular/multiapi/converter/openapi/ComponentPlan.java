@@ -0,0 +1,100 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.cloud.contract.spec.internal.Body;
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+import org.springframework.cloud.contract.spec.internal.DslProperty;
+
+final class ComponentPlan {
+
+  private final Object template;
+
+  private final List<BodyMatcher> matchers;
+
+  private final Map<String, Integer> refDepths;
+
+  private ComponentPlan(final Object template, final List<BodyMatcher> matchers, final Map<String, Integer> refDepths) {
+    this.template = template;
+    this.matchers = matchers;
+    this.refDepths = refDepths;
+  }
+
+  static Object generate(final Supplier<Object> generator) {
+    return new GeneratedValue(generator);
+  }
+
+  static ComponentPlan compile(final Pair<Object, BodyMatchers> generated, final Map<String, Integer> refDepths) {
+    return new ComponentPlan(generated.getLeft(), List.copyOf(generated.getRight().matchers()), Map.copyOf(refDepths));
+  }
+
+  static Body materialise(final Body body) {
+    final Map<GeneratedValue, Object> values = new IdentityHashMap<>();
+    final Function<GeneratedValue, Object> draw = value -> values.computeIfAbsent(value, GeneratedValue::draw);
+    return new Body(new DslProperty(copy(body.getClientValue(), draw), copy(body.getServerValue(), draw)));
+  }
+
+  Map<String, Integer> getRefDepths() {
+    return refDepths;
+  }
+
+  Pair<Object, BodyMatchers> instantiate() {
+    final BodyMatchers bodyMatchers = new BodyMatchers();
+    bodyMatchers.matchers().addAll(matchers);
+    return Pair.of(copy(template, value -> new GeneratedValue(value.generator)), bodyMatchers);
+  }
+
+  private static Object copy(final Object value, final Function<GeneratedValue, Object> leaf) {
+    final Object copied;
+    if (value instanceof GeneratedValue) {
+      copied = leaf.apply((GeneratedValue) value);
+    } else if (value instanceof Body) {
+      final Body body = (Body) value;
+      copied = new Body(new DslProperty(copy(body.getClientValue(), leaf), copy(body.getServerValue(), leaf)));
+    } else if (value instanceof Map) {
+      final Map<Object, Object> map = new HashMap<>();
+      for (Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        map.put(entry.getKey(), copy(entry.getValue(), leaf));
+      }
+      copied = map;
+    } else if (value instanceof List) {
+      final List<Object> list = value instanceof LinkedList ? new LinkedList<>() : new ArrayList<>();
+      for (Object element : (List<?>) value) {
+        list.add(copy(element, leaf));
+      }
+      copied = list;
+    } else {
+      copied = value;
+    }
+    return copied;
+  }
+
+  private static final class GeneratedValue {
+
+    private final Supplier<Object> generator;
+
+    private GeneratedValue(final Supplier<Object> generator) {
+      this.generator = generator;
+    }
+
+    private Object draw() {
+      return generator.get();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+final class ComponentRegistry {
+
+  private final int maximumSize;
+
+  private final Map<Path, SharedDocument> documents;
+
+  ComponentRegistry(final int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Path, SharedDocument> eldest) {
+        return size() > ComponentRegistry.this.maximumSize;
+      }
+    };
+  }
+
+  ComponentSource source(final Path file, final String pointer) throws IOException {
+    final Path canonicalPath = file.toRealPath();
+    final long lastModified = Files.getLastModifiedTime(canonicalPath).toMillis();
+    final long size = Files.size(canonicalPath);
+    SharedDocument document;
+    synchronized (documents) {
+      document = documents.get(canonicalPath);
+      if (Objects.isNull(document) || document.lastModified != lastModified || document.size != size) {
+        document = new SharedDocument(lastModified, size);
+        if (maximumSize > 0) {
+          documents.put(canonicalPath, document);
+        }
+      }
+    }
+    return new ComponentSource(canonicalPath + "@" + lastModified + "-" + size + "#" + pointer, document);
+  }
+
+  int size() {
+    synchronized (documents) {
+      return documents.size();
+    }
+  }
+
+  static final class ComponentSource {
+
+    private final String key;
+
+    private final SharedDocument document;
+
+    private ComponentSource(final String key, final SharedDocument document) {
+      this.key = key;
+      this.document = document;
+    }
+
+    String getKey() {
+      return key;
+    }
+
+    <T> T share(final T component) {
+      final Object registered = document.components.putIfAbsent(key, component);
+      @SuppressWarnings("unchecked")
+      final T shared = Objects.equals(registered, component) ? (T) registered : component;
+      return shared;
+    }
+
+    List<ComponentPlan> plans(final String objectName) {
+      return document.plans.computeIfAbsent(key + "@" + objectName, plan -> new CopyOnWriteArrayList<>());
+    }
+  }
+
+  private static final class SharedDocument {
+
+    private final long lastModified;
+
+    private final long size;
+
+    private final Map<String, Object> components = new ConcurrentHashMap<>();
+
+    private final Map<String, List<ComponentPlan>> plans = new ConcurrentHashMap<>();
+
+    private SharedDocument(final long lastModified, final long size) {
+      this.lastModified = lastModified;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+final class ContractBudget {
+
+  private final int limit;
+
+  private final String scope;
+
+  private final int[] produced;
+
+  private int completed;
+
+  private int completedContracts;
+
+  private boolean skipped;
+
+  ContractBudget(final int limit, final String scope, final int items) {
+    this.limit = limit;
+    this.scope = scope;
+    this.produced = new int[items];
+    Arrays.fill(produced, -1);
+  }
+
+  synchronized int allowance() {
+    final int allowance = Math.max(0, limit - completedContracts);
+    skipped |= allowance == 0;
+    return allowance;
+  }
+
+  synchronized void complete(final int item, final int contracts) {
+    produced[item] = contracts;
+    while (completed < produced.length && produced[completed] >= 0) {
+      completedContracts += produced[completed];
+      completed++;
+    }
+  }
+
+  <T> List<T> collect(final List<List<T>> items) {
+    final List<T> collected = new ArrayList<>();
+    boolean truncated = skipped;
+    final Iterator<List<T>> iterator = items.iterator();
+    while (iterator.hasNext()) {
+      final List<T> item = iterator.next();
+      final int allowed = Math.min(item.size(), limit - collected.size());
+      truncated |= allowed < item.size();
+      collected.addAll(item.subList(0, allowed));
+    }
+    if (truncated) {
+      log.warn("Contract limit of {} reached for {}, the remaining contracts are skipped", limit, scope);
+    }
+    return collected;
+  }
+}
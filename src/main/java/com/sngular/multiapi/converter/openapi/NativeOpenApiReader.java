@@ -0,0 +1,67 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+final class NativeOpenApiReader {
+
+  private static final List<String> READ_SECTIONS = List.of("openapi", "paths", "components");
+
+  private static final String REF = "$ref";
+
+  private static final List<String> RESOLVED_REFERENCES = List.of("#/components/schemas/", "#/components/examples/");
+
+  private NativeOpenApiReader() {
+  }
+
+  static OpenAPI read(final JsonNode content) {
+    OpenAPI openApi = null;
+    if (isSupported(content)) {
+      final ObjectNode document = Json.mapper().createObjectNode();
+      for (var section : READ_SECTIONS) {
+        if (content.has(section)) {
+          document.set(section, content.get(section));
+        }
+      }
+      try {
+        openApi = Json.mapper().convertValue(document, OpenAPI.class);
+      } catch (final IllegalArgumentException e) {
+        log.debug("Native reader could not map the document, falling back to the parser", e);
+      }
+    }
+    return openApi;
+  }
+
+  private static boolean isSupported(final JsonNode content) {
+    final JsonNode version = content.path("openapi");
+    return version.isTextual() && version.asText().startsWith("3.0") && content.path("paths").isObject() && !hasUnresolvedReferences(content);
+  }
+
+  private static boolean hasUnresolvedReferences(final JsonNode node) {
+    boolean unresolved = false;
+    if (node.isObject()) {
+      final JsonNode ref = node.get(REF);
+      unresolved = Objects.nonNull(ref) && ref.isTextual() && RESOLVED_REFERENCES.stream().noneMatch(ref.asText()::startsWith);
+    }
+    final Iterator<JsonNode> children = node.elements();
+    while (!unresolved && children.hasNext()) {
+      unresolved = hasUnresolvedReferences(children.next());
+    }
+    return unresolved;
+  }
+}
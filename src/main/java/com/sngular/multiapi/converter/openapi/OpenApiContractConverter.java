@@ -7,18 +7,25 @@
 
 package com.sngular.multiapi.converter.openapi;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
+import com.sngular.multiapi.converter.model.AnyOfStrategy;
+import com.sngular.multiapi.converter.model.ContractSelection;
+import com.sngular.multiapi.converter.model.ConverterSettings;
+import com.sngular.multiapi.converter.openapi.ComponentRegistry.ComponentSource;
 import com.sngular.multiapi.converter.openapi.model.ConverterPathItem;
 import com.sngular.multiapi.converter.openapi.model.OperationType;
 import com.sngular.multiapi.converter.utils.BasicTypeConstants;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.media.*;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.parser.OpenAPIResolver;
+import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import io.swagger.v3.parser.exception.ReadContentException;
@@ -30,17 +37,35 @@ import org.springframework.cloud.contract.spec.Contract;
 import org.springframework.cloud.contract.spec.internal.*;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Slf4j
 public final class OpenApiContractConverter {
 
-  private static final Map<String, Example> EXAMPLES_MAP = new LinkedHashMap<>();
+  private final ConverterSettings settings;
 
-  private final Map<String, Schema> componentsMap = new LinkedHashMap<>();
+  private final ComponentRegistry componentRegistry;
+
+  public OpenApiContractConverter() {
+    this(ConverterSettings.defaults());
+  }
+
+  public OpenApiContractConverter(final ConverterSettings settings) {
+    this.settings = settings;
+    this.componentRegistry = new ComponentRegistry(settings.getDocumentCacheSize());
+  }
 
   private static Pair<Body, BodyMatchers> getBodyFromMap(final String property, final Map<String, Object> bodyProperties, final BodyMatchers bodyMatchers) {
     final Body body;
@@ -102,27 +127,92 @@ public final class OpenApiContractConverter {
     final Collection<Contract> contracts = new ArrayList<>();
 
     try {
-      contracts.addAll(getContracts(getOpenApi(file)));
+      final Map<String, ComponentSource> componentSources = new HashMap<>();
+      contracts.addAll(getContracts(getOpenApi(file, BasicTypeConstants.OBJECT_MAPPER.readTree(file), new HashSet<>(), componentSources), componentSources));
+    } catch (final IOException | MultiApiContractConverterException e) {
+      log.error("Error processing the file", e);
+    }
+    return contracts;
+  }
+
+  public Collection<Contract> convertFrom(final File file, final JsonNode content) {
+    return convertFrom(file, content, new HashSet<>());
+  }
+
+  public Collection<Contract> convertFrom(final File file, final JsonNode content, final Set<Path> dependencies) {
+
+    final Collection<Contract> contracts = new ArrayList<>();
+
+    try {
+      final Map<String, ComponentSource> componentSources = new HashMap<>();
+      contracts.addAll(getContracts(getOpenApi(file, content, dependencies, componentSources), componentSources));
     } catch (final MultiApiContractConverterException e) {
       log.error("Error processing the file", e);
     }
     return contracts;
   }
 
-  private Collection<Contract> getContracts(final OpenAPI openApi) {
+  public Stream<Contract> streamFrom(final File file, final JsonNode content, final Set<Path> dependencies) {
 
-    extractComponents(openApi);
+    Stream<Contract> contracts = Stream.empty();
 
-    final List<Contract> contracts = new ArrayList<>();
+    try {
+      final Map<String, ComponentSource> componentSources = new HashMap<>();
+      contracts = streamContracts(getOpenApi(file, content, dependencies, componentSources), componentSources);
+    } catch (final MultiApiContractConverterException e) {
+      log.error("Error processing the file", e);
+    }
+    return contracts;
+  }
+
+  private Collection<Contract> getContracts(final OpenAPI openApi, final Map<String, ComponentSource> componentSources) {
 
-    for (Entry<String, PathItem> pathItem : openApi.getPaths().entrySet()) {
-      extractPathItem(pathItem.getValue())
-          .forEach(converterPathItem ->
-              processContract(contracts, pathItem, converterPathItem.getOperation(), converterPathItem.getOperationType()));
+    final var context = new OpenApiConversionContext(openApi, settings.getRecursionDepth(), componentSources);
+
+    final List<Entry<String, PathItem>> pathItems = new ArrayList<>(openApi.getPaths().entrySet());
+    final var budget = new ContractBudget(settings.getSpecificationContractLimit(), "the specification", pathItems.size());
+    return budget.collect(processPathItems(index -> processPathItem(context, pathItems.get(index), budget, index), pathItems.size()));
+  }
+
+  private List<List<Contract>> processPathItems(final IntFunction<List<Contract>> processor, final int size) {
+    final List<List<Contract>> pathContracts;
+    if (settings.isParallelPaths()) {
+      final ForkJoinPool pool = new ForkJoinPool(settings.getParallelism());
+      try {
+        pathContracts = pool.submit(() -> IntStream.range(0, size).parallel().mapToObj(processor).collect(Collectors.toList())).join();
+      } finally {
+        pool.shutdown();
+      }
+    } else {
+      pathContracts = IntStream.range(0, size).mapToObj(processor).collect(Collectors.toList());
     }
+    return pathContracts;
+  }
+
+  private Stream<Contract> streamContracts(final OpenAPI openApi, final Map<String, ComponentSource> componentSources) {
+
+    final var context = new OpenApiConversionContext(openApi, settings.getRecursionDepth(), componentSources);
+
+    return openApi
+               .getPaths()
+               .entrySet()
+               .stream()
+               .flatMap(pathItem -> processPathItem(context, pathItem))
+               .takeWhile(withinLimit(settings.getSpecificationContractLimit(), "the specification"));
+  }
+
+  private List<Contract> processPathItem(final OpenApiConversionContext context, final Entry<String, PathItem> pathItem, final ContractBudget budget, final int index) {
+    final List<Contract> contracts = processPathItem(context, pathItem).limit(budget.allowance()).collect(Collectors.toList());
+    budget.complete(index, contracts.size());
     return contracts;
   }
 
+  private Stream<Contract> processPathItem(final OpenApiConversionContext context, final Entry<String, PathItem> pathItem) {
+    return extractPathItem(pathItem.getValue())
+               .stream()
+               .flatMap(converterPathItem -> processContract(context, pathItem, converterPathItem.getOperation(), converterPathItem.getOperationType()));
+  }
+
   private List<ConverterPathItem> extractPathItem(final PathItem pathItem) {
     final var pathItemList = new ArrayList<ConverterPathItem>();
     pathItem
@@ -135,31 +225,66 @@ public final class OpenApiContractConverter {
     return pathItemList;
   }
 
-  private void extractComponents(final OpenAPI openApi) {
-    if (Objects.nonNull(openApi.getComponents())) {
-      if (Objects.nonNull(openApi.getComponents().getSchemas())) {
-        componentsMap.putAll(openApi.getComponents().getSchemas());
-      }
-      if (Objects.nonNull(openApi.getComponents().getExamples())) {
-        EXAMPLES_MAP.putAll(openApi.getComponents().getExamples());
-      }
+  private Stream<Contract> processContract(
+      final OpenApiConversionContext context, final Entry<String, PathItem> pathItem, final Operation operation, final OperationType name) {
+    final var requestList = processRequest(context, pathItem, operation, name.name());
+    Stream<Entry<String, ApiResponse>> apiResponses = operation.getResponses().entrySet().stream();
+    if (settings.getContractSelection() == ContractSelection.EACH_REQUEST) {
+      apiResponses = apiResponses.filter(apiResponse -> apiResponse.getKey().equals(getDefaultResponse(operation)));
     }
+    return apiResponses
+               .flatMap(apiResponse -> processResponseContracts(context, pathItem, name, apiResponse, requestList))
+               .takeWhile(withinLimit(settings.getOperationContractLimit(), "operation " + name + " " + pathItem.getKey()));
+  }
+
+  private Stream<Contract> processResponseContracts(
+      final OpenApiConversionContext context, final Entry<String, PathItem> pathItem, final OperationType name, final Entry<String, ApiResponse> apiResponse,
+      final List<Request> requestList) {
+    final String fileName = name + pathItem.getKey().replaceAll("[{}]", "") + apiResponse.getKey().substring(0, 1).toUpperCase() + apiResponse.getKey().substring(1) + "Response";
+    final String contractName = fileName.replace("/", "");
+    final String contractDescription = pathItem.getValue().getSummary();
+    final var responseList = processResponse(context, apiResponse.getKey(), apiResponse.getValue());
+    final var counter = new AtomicInteger(0);
+    final Stream<Pair<Request, Response>> pairs;
+    switch (settings.getContractSelection()) {
+      case EACH_REQUEST:
+        pairs = responseList.stream().limit(1).flatMap(response -> requestList.stream().map(request -> Pair.of(request, response)));
+        break;
+      case EACH_RESPONSE:
+        pairs = requestList.stream().limit(1).flatMap(request -> responseList.stream().map(response -> Pair.of(request, response)));
+        break;
+      default:
+        pairs = requestList.stream().flatMap(request -> responseList.stream().map(response -> Pair.of(request, response)));
+        break;
+    }
+    return pairs.map(pair -> createContract(contractName, contractDescription, copyRequest(pair.getLeft()), pair.getRight(), counter));
   }
 
-  private void processContract(final List<Contract> contracts, final Entry<String, PathItem> pathItem, final Operation operation, final OperationType name) {
-    for (Entry<String, ApiResponse> apiResponse : operation.getResponses().entrySet()) {
-      final String fileName = name + pathItem.getKey().replaceAll("[{}]", "") + apiResponse.getKey().substring(0, 1).toUpperCase() + apiResponse.getKey().substring(1) + "Response";
-      final String contractName = fileName.replace("/", "");
-      final String contractDescription = pathItem.getValue().getSummary();
-      final var requestList = processRequest(pathItem, operation, name.name());
-      final var responseList = processResponse(apiResponse.getKey(), apiResponse.getValue());
-      final var counter = new AtomicInteger(0);
-      for (var request : requestList) {
-        for (var response : responseList) {
-          contracts.add(createContract(contractName, contractDescription, request, response, counter));
-        }
+  private static String getDefaultResponse(final Operation operation) {
+    return operation
+               .getResponses()
+               .keySet()
+               .stream()
+               .filter(code -> code.startsWith("2"))
+               .findFirst()
+               .orElseGet(() -> operation.getResponses().keySet().iterator().next());
+  }
+
+  private static Predicate<Contract> withinLimit(final int limit, final String scope) {
+    final var produced = new AtomicInteger(0);
+    return contract -> {
+      final boolean within = produced.incrementAndGet() <= limit;
+      if (!within) {
+        log.warn("Contract limit of {} reached for {}, the remaining contracts are skipped", limit, scope);
       }
-    }
+      return within;
+    };
+  }
+
+  private static Request copyRequest(final Request request) {
+    final Request copy = new Request(request);
+    copy.setBodyMatchers(request.getBodyMatchers());
+    return copy;
   }
 
   private static Contract createContract(final String contractName, final String contractDescription, final Request request, final Response response, final AtomicInteger counter) {
@@ -175,12 +300,12 @@ public final class OpenApiContractConverter {
     return contract;
   }
 
-  private List<Response> processResponse(final String name, final ApiResponse apiResponse) {
+  private List<Response> processResponse(final OpenApiConversionContext context, final String name, final ApiResponse apiResponse) {
     final var responseList = new ArrayList<Response>();
     if (Objects.nonNull(apiResponse)) {
       if (Objects.nonNull(apiResponse.getContent())) {
         for (Entry<String, MediaType> content : apiResponse.getContent().entrySet()) {
-          responseList.addAll(processContent(name, content));
+          responseList.addAll(processContent(context, name, content));
         }
       } else {
         final var response = new Response();
@@ -193,41 +318,53 @@ public final class OpenApiContractConverter {
     return responseList;
   }
 
-  private List<Response> processContent(final String name, final Entry<String, MediaType> content) {
+  private List<Response> processContent(final OpenApiConversionContext context, final String name, final Entry<String, MediaType> content) {
     final List<Response> responseList = new LinkedList<>();
     final MediaType mediaType = content.getValue();
     final Headers headers = new Headers();
     headers.contentType(content.getKey());
     headers.accept();
-    final var bodyList = processResponseBody(mediaType.getSchema());
-    if (Objects.nonNull(mediaType.getExample())) {
-      bodyList.add(buildFromExample(mediaType.getExample()));
-    } else if (Objects.nonNull(mediaType.getExamples())) {
-      mediaType.getExamples().forEach((key, example) -> bodyList.add(buildFromExample(example)));
-    }
+    final var bodyList = processMediaTypeBodies(context, mediaType, schema -> processResponseBody(context, schema));
     for (var body : bodyList) {
       final var response = new Response();
       final var responseBodyMatcher = new ResponseBodyMatchers();
       responseBodyMatcher.matchers().addAll(body.getRight().matchers());
       response.status(solveStatus(name));
       response.setHeaders(headers);
-      response.setBody(body.getLeft());
+      response.setBody(ComponentPlan.materialise(body.getLeft()));
       response.setBodyMatchers(responseBodyMatcher);
       responseList.add(response);
     }
     return responseList;
   }
 
-  private static Pair<Body, BodyMatchers> buildFromExample(final Object example) {
+  private List<Pair<Body, BodyMatchers>> processMediaTypeBodies(
+      final OpenApiConversionContext context, final MediaType mediaType, final Function<Schema, List<Pair<Body, BodyMatchers>>> schemaBodies) {
+    final var examples = processExamples(context, mediaType);
+    final List<Pair<Body, BodyMatchers>> bodyList;
+    if (settings.isPreferExamples() && !examples.isEmpty()) {
+      bodyList = examples;
+    } else {
+      bodyList = new ArrayList<>(schemaBodies.apply(mediaType.getSchema()));
+      bodyList.addAll(examples);
+    }
+    return bodyList;
+  }
+
+  private static List<Pair<Body, BodyMatchers>> processExamples(final OpenApiConversionContext context, final MediaType mediaType) {
+    final List<Pair<Body, BodyMatchers>> examples = new ArrayList<>();
+    if (Objects.nonNull(mediaType.getExample())) {
+      examples.add(buildFromExample(context, mediaType.getExample()));
+    } else if (Objects.nonNull(mediaType.getExamples())) {
+      mediaType.getExamples().forEach((key, example) -> examples.add(buildFromExample(context, example)));
+    }
+    return examples;
+  }
+
+  private static Pair<Body, BodyMatchers> buildFromExample(final OpenApiConversionContext context, final Object example) {
     final Body body;
     if (example instanceof Example) {
-      final var castedExample = (Example) example;
-      if (Objects.nonNull(castedExample.get$ref())) {
-        final var referredExample = getExampleFromComponent(OpenApiContractConverterUtils.mapRefName(castedExample));
-        body = new Body(referredExample.getValue());
-      } else {
-        body = new Body(((Example) example).getValue());
-      }
+      body = new Body(context.resolveExample((Example) example).getValue());
     } else {
       body = new Body(example);
     }
@@ -238,25 +375,26 @@ public final class OpenApiContractConverter {
     return "default".equalsIgnoreCase(name) ? 200 : Integer.parseInt(name);
   }
 
-  private List<Pair<Body, BodyMatchers>> processResponseBody(final Schema schema) {
+  private List<Pair<Body, BodyMatchers>> processResponseBody(final OpenApiConversionContext context, final Schema schema) {
     final var bodyList = new ArrayList<Pair<Body, BodyMatchers>>();
     if (schema instanceof ComposedSchema) {
       final ComposedSchema composedSchema = (ComposedSchema) schema;
-      final var bodyMap = processComposedSchema(composedSchema);
+      final var bodyMap = processComposedSchema(context, composedSchema);
       bodyList.addAll(bodyMap);
     } else if (Objects.nonNull(schema.getType()) && BasicTypeConstants.BASIC_OBJECT_TYPE.contains(schema.getType())) {
       bodyList.add(OpenApiContractConverterUtils.processBasicTypeBody(schema));
     } else {
-      final var bodyMap = processBodyAndMatchers(schema);
+      final var bodyMap = processBodyAndMatchers(context, schema);
       bodyList.addAll(bodyMap);
     }
     return bodyList;
   }
 
-  private List<Request> processRequest(final Entry<String, PathItem> pathItem, final Operation operation, final String name) {
+  private List<Request> processRequest(final OpenApiConversionContext context, final Entry<String, PathItem> pathItem, final Operation operation, final String name) {
     final List<Request> requestList = new LinkedList<>();
-    if (Objects.nonNull(operation.getRequestBody()) && Objects.nonNull(operation.getRequestBody().getContent())) {
-      requestList.addAll(processRequestContent(operation));
+    final RequestBody requestBody = Objects.nonNull(operation.getRequestBody()) ? context.resolveRequestBody(operation.getRequestBody()) : null;
+    if (Objects.nonNull(requestBody) && Objects.nonNull(requestBody.getContent())) {
+      requestList.addAll(processRequestContent(context, requestBody));
     }
     if (requestList.isEmpty()) {
       requestList.add(new Request());
@@ -279,22 +417,17 @@ public final class OpenApiContractConverter {
     };
   }
 
-  private List<Request> processRequestContent(final Operation operation) {
+  private List<Request> processRequestContent(final OpenApiConversionContext context, final RequestBody requestBody) {
     final List<Request> requestList = new LinkedList<>();
-    for (Entry<String, MediaType> content : operation.getRequestBody().getContent().entrySet()) {
+    for (Entry<String, MediaType> content : requestBody.getContent().entrySet()) {
       final MediaType mediaType = content.getValue();
       final Headers headers = new Headers();
       headers.header("Content-Type", content.getKey());
-      final List<Pair<Body, BodyMatchers>> bodyMap = new ArrayList<>(processRequestBody(mediaType.getSchema()));
-      if (Objects.nonNull(mediaType.getExample())) {
-        bodyMap.add(buildFromExample(mediaType.getExample()));
-      } else if (Objects.nonNull(mediaType.getExamples())) {
-        mediaType.getExamples().forEach((key, example) -> bodyMap.add(buildFromExample(example)));
-      }
+      final List<Pair<Body, BodyMatchers>> bodyMap = processMediaTypeBodies(context, mediaType, schema -> processRequestBody(context, schema));
       bodyMap.forEach(body -> {
         final Request request = new Request();
         request.setHeaders(headers);
-        request.body(body.getLeft());
+        request.body(ComponentPlan.materialise(body.getLeft()));
         request.setBodyMatchers(body.getRight());
         requestList.add(request);
       });
@@ -302,43 +435,52 @@ public final class OpenApiContractConverter {
     return requestList;
   }
 
-  private List<Pair<Body, BodyMatchers>> processRequestBody(final Schema schema) {
+  private List<Pair<Body, BodyMatchers>> processRequestBody(final OpenApiConversionContext context, final Schema schema) {
     final List<Pair<Body, BodyMatchers>> requestBody = new LinkedList<>();
     if (schema instanceof ComposedSchema) {
       final ComposedSchema composedSchema = (ComposedSchema) schema;
-      requestBody.addAll(processComposedSchema(composedSchema));
+      requestBody.addAll(processComposedSchema(context, composedSchema));
     } else if (Objects.nonNull(schema.getType()) && BasicTypeConstants.BASIC_OBJECT_TYPE.contains(schema.getType())) {
       requestBody.add(OpenApiContractConverterUtils.processBasicTypeBody(schema));
     } else {
-      requestBody.addAll(processBodyAndMatchers(schema));
+      requestBody.addAll(processBodyAndMatchers(context, schema));
     }
     return requestBody;
   }
 
-  private List<Pair<Body, BodyMatchers>> processBodyAndMatchers(final Schema schema) {
+  private List<Pair<Body, BodyMatchers>> processBodyAndMatchers(final OpenApiConversionContext context, final Schema schema) {
 
     final var result = new LinkedList<Pair<Body, BodyMatchers>>();
     if (Objects.nonNull(schema.getType())) {
-      result.addAll(processBodyAndMatchersByType(schema));
+      result.addAll(processBodyAndMatchersByType(context, schema));
     }
     if (Objects.nonNull(schema.get$ref())) {
-      result.addAll(processBodyAndMatchersByRef(schema));
+      result.addAll(processBodyAndMatchersByRef(context, schema));
     }
     return result;
   }
 
-  private List<Pair<Body, BodyMatchers>> processBodyAndMatchersByRef(final Schema schema) {
+  private List<Pair<Body, BodyMatchers>> processBodyAndMatchersByRef(final OpenApiConversionContext context, final Schema schema) {
     final String ref = OpenApiContractConverterUtils.mapRefName(schema);
-    List<Pair<Body, BodyMatchers>> bodyList = new LinkedList<>();
-    if (existSchemaWithPropertiesInComponent(ref)) {
-      final Map<String, Schema> properties = getSchemaFromComponent(ref).getProperties();
-      for (Entry<String, Schema> property : properties.entrySet()) {
-        bodyList = createBodyForProperty(ref, bodyList, property);
+    final List<Pair<Body, BodyMatchers>> bodyList = new LinkedList<>();
+    if (context.existSchemaWithProperties(ref)) {
+      if (context.enterReference(ref)) {
+        final Map<String, Schema> properties = context.getSchema(ref).getProperties();
+        List<BodyAssembly> assemblyList = new LinkedList<>();
+        for (Entry<String, Schema> property : properties.entrySet()) {
+          assemblyList = createBodyForProperty(context, ref, assemblyList, property);
+        }
+        context.exitReference(ref);
+        for (var assembly : assemblyList) {
+          bodyList.add(assembly.build());
+        }
+      } else {
+        bodyList.add(Pair.of(new Body(Collections.emptyMap()), new BodyMatchers()));
       }
     } else {
-      final Schema arraySchema = getSchemaFromComponent(ref);
+      final Schema arraySchema = context.getSchema(ref);
       if (Objects.nonNull(arraySchema)) {
-        bodyList = this.applyObjectToBodyList(bodyList, null, writeBodyMatcher(null, "[0]", arraySchema, arraySchema.getType()));
+        bodyList.add(getBodyMatcher(null, writeBodyMatcher(context, null, "[0]", arraySchema, arraySchema.getType())));
       } else {
         throw new MultiApiContractConverterException("Unsupported Schema");
       }
@@ -346,122 +488,82 @@ public final class OpenApiContractConverter {
     return bodyList;
   }
 
-  private List<Pair<Body, BodyMatchers>> createBodyForProperty(final String ref, final List<Pair<Body, BodyMatchers>> propertyBodyList, final Entry<String, Schema> property) {
-    final List<Pair<Body, BodyMatchers>> bodyList;
+  private List<BodyAssembly> createBodyForProperty(
+      final OpenApiConversionContext context, final String ref, final List<BodyAssembly> propertyBodyList, final Entry<String, Schema> property) {
+    final List<BodyAssembly> bodyList;
     if (property.getValue() instanceof ComposedSchema) {
-      bodyList = applyBodyToList(propertyBodyList, property.getKey(), processComposedSchema((ComposedSchema) property.getValue()));
+      bodyList = applyBodyToList(propertyBodyList, property.getKey(), processComposedSchema(context, (ComposedSchema) property.getValue()));
     } else if (Objects.nonNull(property.getValue().get$ref())) {
       final String subRef = OpenApiContractConverterUtils.mapRefName(property.getValue());
-      final Schema<?> subSchema = getSchemaFromComponent(subRef);
+      final Schema<?> subSchema = context.getSchema(subRef);
       if (Objects.nonNull(subSchema.getProperties())) {
-        bodyList = applyMapToBodyList(propertyBodyList, property.getKey(), processComplexBodyAndMatchers(property.getKey(), subSchema.getProperties()));
+        bodyList = applyMapToBodyList(propertyBodyList, property.getKey(), processComponentBodyAndMatchers(context, property.getKey(), subRef));
       } else if (subSchema instanceof ArraySchema && ((ArraySchema) subSchema).getItems() instanceof ComposedSchema) {
         final Schema<?> arraySchema = ((ArraySchema) subSchema).getItems();
-        bodyList = applyBodyToList(propertyBodyList, property.getKey(), processComposedSchema((ComposedSchema) arraySchema));
+        bodyList = applyBodyToList(propertyBodyList, property.getKey(), processComposedSchema(context, (ComposedSchema) arraySchema));
       } else {
-        bodyList = this.applyObjectToBodyList(propertyBodyList, ref, writeBodyMatcher(null, ref, subSchema, subSchema.getType()));
+        bodyList = this.applyObjectToBodyList(propertyBodyList, ref, writeBodyMatcher(context, null, ref, subSchema, subSchema.getType()));
       }
     } else if (Objects.nonNull(property.getValue().getEnum())) {
-      bodyList = this.applyObjectToBodyList(propertyBodyList, property.getKey(), writeBodyMatcher(null, property.getKey(), property.getValue(), BasicTypeConstants.ENUM));
+      bodyList = this.applyObjectToBodyList(propertyBodyList, property.getKey(), writeBodyMatcher(context, null, property.getKey(), property.getValue(), BasicTypeConstants.ENUM));
     } else {
-      bodyList = this.applyObjectToBodyList(propertyBodyList, property.getKey(), writeBodyMatcher(null, property.getKey(), property.getValue(), property.getValue().getType()));
+      bodyList = this.applyObjectToBodyList(propertyBodyList, property.getKey(),
+                                            writeBodyMatcher(context, null, property.getKey(), property.getValue(), property.getValue().getType()));
     }
     return bodyList;
   }
 
-  private List<Pair<Body, BodyMatchers>> applyBodyToList(
-      final List<Pair<Body, BodyMatchers>> originalBodyList, final String property,
+  private List<BodyAssembly> applyBodyToList(
+      final List<BodyAssembly> originalBodyList, final String property,
       final List<Pair<Body, BodyMatchers>> valueBodyList) {
-    final var bodyList = new LinkedList<Pair<Body, BodyMatchers>>();
+    final var bodyList = new LinkedList<BodyAssembly>();
     if (originalBodyList.isEmpty()) {
-      bodyList.add(getBodyMatcher(property, valueBodyList));
+      bodyList.add(BodyAssembly.of(getBodyMatcher(property, valueBodyList)));
     } else {
       for (var orgBody : originalBodyList) {
-        for (var bodyValue : valueBodyList) {
-          bodyList.add(combineProperties(orgBody, property, bodyValue));
+        for (var iterator = valueBodyList.iterator(); iterator.hasNext();) {
+          final var bodyValue = iterator.next();
+          final var assembly = iterator.hasNext() ? orgBody.copy() : orgBody;
+          bodyList.add(assembly.put(property, bodyValue.getLeft(), bodyValue.getRight()));
         }
       }
     }
     return bodyList;
   }
 
-  private List<Pair<Body, BodyMatchers>> applyObjectToBodyList(
-      final List<Pair<Body, BodyMatchers>> originalBodyList, final String property,
+  private List<BodyAssembly> applyObjectToBodyList(
+      final List<BodyAssembly> originalBodyList, final String property,
       final Pair<Object, BodyMatchers> bodyValue) {
-    final var bodyList = new LinkedList<Pair<Body, BodyMatchers>>();
+    final var bodyList = new LinkedList<BodyAssembly>();
     if (originalBodyList.isEmpty()) {
-      bodyList.add(getBodyMatcher(property, bodyValue));
+      bodyList.add(BodyAssembly.of(getBodyMatcher(property, bodyValue)));
     } else {
+      final var body = new Body(bodyValue.getLeft());
       for (var orgBody : originalBodyList) {
-        bodyList.add(combineProperties(orgBody, property, Pair.of(new Body(bodyValue.getLeft()), bodyValue.getRight())));
+        bodyList.add(orgBody.put(property, body, bodyValue.getRight()));
       }
     }
     return bodyList;
   }
 
-  private List<Pair<Body, BodyMatchers>> applyMapToBodyList(
-      final List<Pair<Body, BodyMatchers>> originalBodyList, final String property,
+  private List<BodyAssembly> applyMapToBodyList(
+      final List<BodyAssembly> originalBodyList, final String property,
       final Pair<Object, BodyMatchers> valueBodyMap) {
-    final var bodyList = new LinkedList<Pair<Body, BodyMatchers>>();
+    final var bodyList = new LinkedList<BodyAssembly>();
     if (originalBodyList.isEmpty()) {
       if (valueBodyMap.getLeft() instanceof Map) {
-        bodyList.add(getBodyFromMap(property, (Map<String, Object>) valueBodyMap.getLeft(), valueBodyMap.getRight()));
+        bodyList.add(BodyAssembly.of(getBodyFromMap(property, (Map<String, Object>) valueBodyMap.getLeft(), valueBodyMap.getRight())));
       }
     } else {
+      final var body = new Body(valueBodyMap.getLeft());
       for (var orgBody : originalBodyList) {
-        bodyList.add(combineProperties(orgBody, property, Pair.of(new Body(valueBodyMap.getLeft()), valueBodyMap.getRight())));
+        bodyList.add(orgBody.put(property, body, valueBodyMap.getRight()));
       }
     }
     return bodyList;
   }
 
-  private Pair<Body, BodyMatchers> combineProperties(final Pair<Body, BodyMatchers> orgBodyMatcher, final String property, final Pair<Body, BodyMatchers> bodyValue) {
-    final var orgBody = orgBodyMatcher.getLeft();
-    final var orgMatchers = orgBodyMatcher.getRight();
-    orgMatchers.matchers().addAll(bodyValue.getRight().matchers());
-    return Pair.of(
-        new Body(new DslProperty(addProperty(orgBody.getClientValue(), property, bodyValue.getLeft().getClientValue()), addProperty(orgBody.getServerValue(), property,
-            bodyValue.getLeft().getServerValue()))),
-        orgMatchers);
-  }
-
-  private Body combineProperties(final Body orgBody, final Body newBody) {
-    final Object clientValue = combineProperties(orgBody.getClientValue(), newBody.getClientValue());
-    final Object serverValue = combineProperties(orgBody.getServerValue(), newBody.getServerValue());
-    return new Body(new DslProperty(clientValue, serverValue));
-  }
-
-  private Object combineProperties(final Object clientValueOrig, final Object clientValueNew) {
-    final Object property;
-    if (clientValueOrig instanceof Map) {
-      property = new HashMap<>((Map) clientValueOrig);
-      ((Map) property).putAll((Map) clientValueNew);
-    } else if (clientValueOrig instanceof List) {
-      property = new LinkedList<>((List) clientValueOrig);
-      ((List) property).addAll((List) clientValueNew);
-    } else if (clientValueOrig instanceof DslProperty) {
-      property = combineProperties(((DslProperty<?>) clientValueOrig).getClientValue(), clientValueNew);
-    } else {
-      property = List.of(clientValueOrig, clientValueNew);
-    }
-    return property;
-  }
-
-  private Object addProperty(final Object dslValue, final String property, final Object bodyValue) {
-    final Object result;
-    if (dslValue instanceof Map) {
-      result = new HashMap<String, Object>((Map) dslValue);
-      ((Map) result).put(property, bodyValue);
-    } else if (dslValue instanceof List) {
-      result = new ArrayList<>((List) dslValue);
-      ((List) result).add(Map.of(property, bodyValue));
-    } else {
-      result = Map.of(property, bodyValue);
-    }
-    return result;
-  }
-
-  private List<Pair<Body, BodyMatchers>> processBodyAndMatchersByType(final Schema schema) {
+  private List<Pair<Body, BodyMatchers>> processBodyAndMatchersByType(final OpenApiConversionContext context, final Schema schema) {
     final List<Pair<Body, BodyMatchers>> bodyBodyMatList = new LinkedList<>();
     final Body body;
     final BodyMatchers bodyMatchers = new BodyMatchers();
@@ -469,45 +571,37 @@ public final class OpenApiContractConverter {
       if (Objects.nonNull(schema.getProperties())) {
         final Map<String, Object> bodyMap = new HashMap<>();
         final Map<String, Schema> basicObjectProperties = schema.getProperties();
-        final List<Pair<Body, BodyMatchers>> composedElement = new LinkedList<>();
         for (Entry<String, Schema> property : basicObjectProperties.entrySet()) {
           if (Objects.nonNull(property.getValue().get$ref())) {
             final String subRef = OpenApiContractConverterUtils.mapRefName(property.getValue());
-            final var componentSchema = getSchemaFromComponent(subRef);
+            final var componentSchema = context.getSchema(subRef);
             if (Objects.nonNull(componentSchema.getProperties())) {
-              final Map<String, Schema> subProperties = new HashMap<>(componentSchema.getProperties());
-              final var result = processComplexBodyAndMatchers(property.getKey(), subProperties);
+              final var result = processComponentBodyAndMatchers(context, property.getKey(), subRef);
               bodyMap.put(property.getKey(), result.getLeft());
               bodyMatchers.matchers().addAll(result.getRight().matchers());
             } else if (componentSchema instanceof ArraySchema) {
-              final var array = processArray(componentSchema, property.getKey());
+              final var array = processArray(context, componentSchema, property.getKey());
               bodyMap.put(property.getKey(), array.getLeft());
               bodyMatchers.matchers().addAll(array.getRight().matchers());
             }
           } else {
-            final var result = writeBodyMatcher(null, property.getKey(), property.getValue(), property.getValue().getType());
+            final var result = writeBodyMatcher(context, null, property.getKey(), property.getValue(), property.getValue().getType());
             bodyMap.put(property.getKey(), result.getLeft());
             bodyMatchers.matchers().addAll(result.getRight().matchers());
           }
         }
         body = new Body(bodyMap);
-        if (composedElement.isEmpty()) {
-          bodyBodyMatList.add(Pair.of(body, bodyMatchers));
-        } else {
-          for (var halfy : composedElement) {
-            bodyBodyMatList.add(bodyJoin(halfy, body, bodyMatchers));
-          }
-        }
+        bodyBodyMatList.add(Pair.of(body, bodyMatchers));
       }
     } else if (schema instanceof ArraySchema) {
-      final var array = processArray(schema, "[0]");
+      final var array = processArray(context, schema, "[0]");
       body = new Body(array.getLeft());
       bodyMatchers.matchers().addAll(array.getRight().matchers());
       bodyBodyMatList.add(Pair.of(body, bodyMatchers));
     } else if (schema instanceof ComposedSchema) {
-      bodyBodyMatList.addAll(processComposedSchema((ComposedSchema) schema));
+      bodyBodyMatList.addAll(processComposedSchema(context, (ComposedSchema) schema));
     } else {
-      final var result = writeBodyMatcher(null, "[0]", schema, schema.getType());
+      final var result = writeBodyMatcher(context, null, "[0]", schema, schema.getType());
       body = new Body(result.getLeft());
       bodyMatchers.matchers().addAll(result.getRight().matchers());
       bodyBodyMatList.add(Pair.of(body, bodyMatchers));
@@ -515,7 +609,8 @@ public final class OpenApiContractConverter {
     return bodyBodyMatList;
   }
 
-  private Pair<Object, BodyMatchers> writeBodyMatcher(final Entry<String, Schema> property, final String fieldName, final Schema schema, final String type) {
+  private Pair<Object, BodyMatchers> writeBodyMatcher(
+      final OpenApiConversionContext context, final Entry<String, Schema> property, final String fieldName, final Schema schema, final String type) {
     final var example = getSafeExample(property, schema);
     final var bodyMatchers = new BodyMatchers();
     final Pair<Object, BodyMatchers> result;
@@ -527,7 +622,7 @@ public final class OpenApiContractConverter {
       switch (ObjectUtils.defaultIfNull(type, BasicTypeConstants.GENERIC)) {
         case BasicTypeConstants.STRING:
           bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.STRING_REGEX));
-          result = Pair.of(RandomStringUtils.random(5, true, true), bodyMatchers);
+          result = Pair.of(ComponentPlan.generate(() -> RandomStringUtils.random(5, true, true)), bodyMatchers);
           break;
         case BasicTypeConstants.INTEGER:
           result = processIntegerBodyMatcher(property, fieldName, schema);
@@ -537,27 +632,27 @@ public final class OpenApiContractConverter {
           break;
         case BasicTypeConstants.BOOLEAN:
           bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.BOOLEAN_REGEX));
-          result = Pair.of(BasicTypeConstants.RANDOM.nextBoolean(), bodyMatchers);
+          result = Pair.of(ComponentPlan.generate(BasicTypeConstants.RANDOM::nextBoolean), bodyMatchers);
           break;
         case BasicTypeConstants.OBJECT:
-          result = processObjectBodyMatcher(property, fieldName, schema);
+          result = processObjectBodyMatcher(context, property, fieldName, schema);
           break;
         case BasicTypeConstants.ARRAY:
           final var arraySchema = Objects.nonNull(property) ? null : schema;
-          result = processArrayBodyMatcher(property, fieldName, arraySchema);
+          result = processArrayBodyMatcher(context, property, fieldName, arraySchema);
           break;
         case BasicTypeConstants.ENUM:
           result = processEnumBodyMatcher(mapKey, Objects.nonNull(property) ? property.getValue() : schema);
           break;
         case BasicTypeConstants.MAP:
-          result = processMapBodyMatcher(schema, fieldName);
+          result = processMapBodyMatcher(context, schema, fieldName);
           break;
         case BasicTypeConstants.GENERIC:
           result = processEmptyObject(fieldName);
           break;
         default:
           bodyMatchers.jsonPath(mapKey, bodyMatchers.byRegex(BasicTypeConstants.DEFAULT_REGEX));
-          result = Pair.of(RandomStringUtils.random(5, true, true), bodyMatchers);
+          result = Pair.of(ComponentPlan.generate(() -> RandomStringUtils.random(5, true, true)), bodyMatchers);
           break;
       }
     }
@@ -571,14 +666,15 @@ public final class OpenApiContractConverter {
     return ObjectUtils.defaultIfNull(propertyExample, schemaExample);
   }
 
-  private Pair<Object, BodyMatchers> processArrayBodyMatcher(final Entry<String, Schema> property, final String fieldName, final Schema schema) {
+  private Pair<Object, BodyMatchers> processArrayBodyMatcher(
+      final OpenApiConversionContext context, final Entry<String, Schema> property, final String fieldName, final Schema schema) {
     final Object result;
     final Schema<?> arraySchema = getArraySchema(property, schema);
     if (Objects.nonNull(arraySchema)) {
       if (Objects.nonNull(arraySchema.getExample())) {
         result = Pair.of(arraySchema.getExample(), new BodyMatchers());
       } else {
-        result = processArray(arraySchema, fieldName);
+        result = processArray(context, arraySchema, fieldName);
       }
     } else {
       result = processEmptyObject(property.getKey());
@@ -594,21 +690,21 @@ public final class OpenApiContractConverter {
     return schemaItems;
   }
 
-  private Pair<Object, BodyMatchers> processObjectBodyMatcher(final Entry<String, Schema> property, final String fieldName, final Schema schema) {
+  private Pair<Object, BodyMatchers> processObjectBodyMatcher(
+      final OpenApiConversionContext context, final Entry<String, Schema> property, final String fieldName, final Schema schema) {
     final Pair<Object, BodyMatchers> result;
     final String ref = Objects.nonNull(property) ? property.getValue().get$ref() : schema.get$ref();
     final Schema internalRef = Objects.nonNull(property) ? property.getValue() : schema;
     final String subRef = OpenApiContractConverterUtils.mapRefName(internalRef);
 
     if (Objects.nonNull(ref)) {
-      final Map<String, Schema> subPropertiesWithRef = getSchemaFromComponent(subRef).getProperties();
-      result = processComplexBodyAndMatchers(fieldName, subPropertiesWithRef);
+      result = processComponentBodyAndMatchers(context, fieldName, subRef);
     } else if (Objects.nonNull(internalRef.getProperties())) {
       final Map<String, Schema> subProperties = internalRef.getProperties();
-      result = processComplexBodyAndMatchers(fieldName, subProperties);
+      result = processComplexBodyAndMatchers(context, fieldName, subProperties);
     } else if (Objects.nonNull(internalRef.getAdditionalProperties())) {
       final Schema subProperties = (Schema) internalRef.getAdditionalProperties();
-      result = writeBodyMatcher(null, fieldName, subProperties, BasicTypeConstants.MAP);
+      result = writeBodyMatcher(context, null, fieldName, subProperties, BasicTypeConstants.MAP);
     } else {
       var matcher = new BodyMatchers();
       matcher.jsonPath("", new BodyMatchers().byRegex(BasicTypeConstants.DEFAULT_REGEX));
@@ -625,13 +721,13 @@ public final class OpenApiContractConverter {
 
     if (BasicTypeConstants.FLOAT.equalsIgnoreCase(format)) {
       bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
-      result = Math.abs(BasicTypeConstants.RANDOM.nextFloat());
+      result = ComponentPlan.generate(() -> Math.abs(BasicTypeConstants.RANDOM.nextFloat()));
     } else if (BasicTypeConstants.DOUBLE.equalsIgnoreCase(format)) {
       bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
-      result = Math.abs(BasicTypeConstants.RANDOM.nextDouble());
+      result = ComponentPlan.generate(() -> Math.abs(BasicTypeConstants.RANDOM.nextDouble()));
     } else if (!Objects.nonNull(format) || format.isEmpty()) {
       bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
-      result = BasicTypeConstants.RANDOM.nextInt();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextInt);
     } else {
       result = null;
     }
@@ -645,10 +741,10 @@ public final class OpenApiContractConverter {
 
     if (BasicTypeConstants.INT_32.equalsIgnoreCase(format) || !Objects.nonNull(format)) {
       bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
-      result = BasicTypeConstants.RANDOM.nextInt();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextInt);
     } else if (BasicTypeConstants.INT_64.equalsIgnoreCase(format)) {
       bodyMatchers.jsonPath(fieldName, bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
-      result = BasicTypeConstants.RANDOM.nextFloat();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextFloat);
     } else {
       result = null;
     }
@@ -668,17 +764,17 @@ public final class OpenApiContractConverter {
       }
     }
     bodyMatchers.jsonPath(enumName, bodyMatchers.byRegex(regex));
-    return Pair.of(property.getEnum().get(BasicTypeConstants.RANDOM.nextInt(property.getEnum().size())), bodyMatchers);
+    return Pair.of(ComponentPlan.generate(() -> property.getEnum().get(BasicTypeConstants.RANDOM.nextInt(property.getEnum().size()))), bodyMatchers);
   }
 
-  private Pair<Object, BodyMatchers> processMapBodyMatcher(final Schema schema, final String fieldName) {
+  private Pair<Object, BodyMatchers> processMapBodyMatcher(final OpenApiConversionContext context, final Schema schema, final String fieldName) {
     final var mapKey = RandomStringUtils.random(5, true, true);
-    final var value = writeBodyMatcher(null, mapKey, schema, schema.getType());
+    final var value = writeBodyMatcher(context, null, mapKey, schema, schema.getType());
     var bodyMatcher = getMapBodyMatcher(fieldName, mapKey, value);
     return Pair.of(bodyMatcher.getLeft(), bodyMatcher.getRight());
   }
 
-  private Pair<Object, BodyMatchers> processComplexBodyAndMatchers(final String objectName, final Map<String, Schema> properties) {
+  private Pair<Object, BodyMatchers> processComplexBodyAndMatchers(final OpenApiConversionContext context, final String objectName, final Map<String, Schema> properties) {
 
     final HashMap<String, Object> propertyMap = new HashMap<>();
     final BodyMatchers bodyMatchers = new BodyMatchers();
@@ -686,21 +782,20 @@ public final class OpenApiContractConverter {
       final String newObjectName = objectName + "." + property.getKey();
       if (isReferenced(property.getValue())) {
         final String ref = OpenApiContractConverterUtils.mapRefName(property.getValue());
-        if (existSchemaWithPropertiesInComponent(ref)) {
-          final Map<String, Schema> subProperties = getSchemaFromComponent(ref).getProperties();
-          final var processedBody = processComplexBodyAndMatchers(newObjectName, subProperties);
+        if (context.existSchemaWithProperties(ref)) {
+          final var processedBody = processComponentBodyAndMatchers(context, newObjectName, ref);
           propertyMap.put(property.getKey(), processedBody.getLeft());
           bodyMatchers.matchers().addAll(processedBody.getRight().matchers());
         } else {
-          final var subProperties = (getSchemaFromComponent(ref)).getItems();
-          final Pair<List<Object>, BodyMatchers> processedArray = processArray(subProperties, objectName);
+          final var subProperties = (context.getSchema(ref)).getItems();
+          final Pair<List<Object>, BodyMatchers> processedArray = processArray(context, subProperties, objectName);
           propertyMap.put(property.getKey(), processedArray.getLeft());
           bodyMatchers.matchers().addAll(processedArray.getRight().matchers());
         }
       } else {
         final String type;
         type = getPropertyType(property);
-        final var prop = writeBodyMatcher(property, newObjectName, property.getValue(), type);
+        final var prop = writeBodyMatcher(context, property, newObjectName, property.getValue(), type);
         propertyMap.put(property.getKey(), prop.getLeft());
         bodyMatchers.matchers().addAll(prop.getRight().matchers());
       }
@@ -708,27 +803,31 @@ public final class OpenApiContractConverter {
     return Pair.of(propertyMap, bodyMatchers);
   }
 
+  private Pair<Object, BodyMatchers> processComponentBodyAndMatchers(final OpenApiConversionContext context, final String objectName, final String ref) {
+    return context.instantiateComponent(ref, objectName, () -> processComplexBodyAndMatchers(context, objectName, context.getSchema(ref).getProperties()),
+                                        () -> processRecursiveObject(objectName));
+  }
+
   private static boolean isReferenced(final Schema schema) {
     return Objects.nonNull(schema.get$ref());
   }
 
-  private Schema<?> getReferencedProperties(final Schema<?> schema) {
+  private Schema<?> getReferencedProperties(final OpenApiConversionContext context, final Schema<?> schema) {
     Schema<?> referencedSchema;
     final String ref = OpenApiContractConverterUtils.mapRefName(schema);
-    referencedSchema = getSchemaFromComponent(ref);
-    if (!existSchemaWithPropertiesInComponent(ref)) {
-      referencedSchema = (referencedSchema).getItems();
+    referencedSchema = context.getSchema(ref);
+    if (!context.existSchemaWithProperties(ref) && referencedSchema instanceof ArraySchema) {
+      referencedSchema = referencedSchema.getItems();
     }
     return referencedSchema;
   }
 
-  private Pair<List<Object>, BodyMatchers> processArray(final Schema<?> arraySchema, final String objectName) {
+  private Pair<List<Object>, BodyMatchers> processArray(final OpenApiConversionContext context, final Schema<?> arraySchema, final String objectName) {
     final List<Object> propertyList = new LinkedList<>();
     final BodyMatchers bodyMatchers = new BodyMatchers();
     if (Objects.nonNull(arraySchema.get$ref())) {
       final String ref = OpenApiContractConverterUtils.mapRefName(arraySchema);
-      final Map<String, Schema> subObject = getSchemaFromComponent(ref).getProperties();
-      final var generatedObject = processComplexBodyAndMatchers("[0]", subObject);
+      final var generatedObject = processComponentBodyAndMatchers(context, "[0]", ref);
       propertyList.add(generatedObject.getLeft());
       bodyMatchers.matchers().addAll(generatedObject.getRight().matchers());
     } else {
@@ -749,7 +848,7 @@ public final class OpenApiContractConverter {
           break;
         case BasicTypeConstants.ARRAY:
           if (arraySchema instanceof ArraySchema) {
-            final var calculatedValue = processArrayArray((ArraySchema) arraySchema, objectName);
+            final var calculatedValue = processArrayArray(context, (ArraySchema) arraySchema, objectName);
             if (Objects.nonNull((arraySchema).getItems().getType())) {
               tempValue = calculatedValue;
             } else {
@@ -760,7 +859,7 @@ public final class OpenApiContractConverter {
           }
           break;
         case BasicTypeConstants.OBJECT:
-          tempValue = processObjectArray(arraySchema, objectName);
+          tempValue = processObjectArray(context, arraySchema, objectName);
           break;
         case BasicTypeConstants.GENERIC:
           tempValue = processEmptyObjectArray(objectName);
@@ -782,11 +881,11 @@ public final class OpenApiContractConverter {
     return Pair.of(propertyList, bodyMatchers);
   }
 
-  private Pair<Object, BodyMatchers> processObjectArray(final Schema<?> arraySchema, final String objectName) {
+  private Pair<Object, BodyMatchers> processObjectArray(final OpenApiConversionContext context, final Schema<?> arraySchema, final String objectName) {
     final Map<String, Schema> subObject = arraySchema.getProperties();
     final Pair<Object, BodyMatchers> result;
     if (Objects.nonNull(subObject)) {
-      result = processComplexBodyAndMatchers(objectName, subObject);
+      result = processComplexBodyAndMatchers(context, objectName, subObject);
     } else {
       result = processEmptyObjectArray(objectName);
     }
@@ -799,13 +898,19 @@ public final class OpenApiContractConverter {
     return Pair.of(Collections.emptyList(), matcher);
   }
 
+  private Pair<Object, BodyMatchers> processRecursiveObject(final String objectName) {
+    var matcher = new BodyMatchers();
+    matcher.jsonPath(objectName, new BodyMatchers().byRegex(BasicTypeConstants.DEFAULT_REGEX));
+    return Pair.of(Collections.emptyMap(), matcher);
+  }
+
   private Pair<Object, BodyMatchers> processEmptyObject(final String objectName) {
     var matcher = new BodyMatchers();
     matcher.jsonPath(objectName, new BodyMatchers().byRegex(BasicTypeConstants.DEFAULT_REGEX));
     return Pair.of(Collections.emptyList(), matcher);
   }
 
-  private Pair<List<Object>, BodyMatchers> processArrayArray(final ArraySchema arraySchema, final String objectName) {
+  private Pair<List<Object>, BodyMatchers> processArrayArray(final OpenApiConversionContext context, final ArraySchema arraySchema, final String objectName) {
     final List<Object> result = new ArrayList<>();
     final Schema<?> subArray = arraySchema.getItems();
     final BodyMatchers bodyMatchers = new BodyMatchers();
@@ -816,7 +921,7 @@ public final class OpenApiContractConverter {
         result.add(subArray.getExample());
       }
     } else {
-      final var temp = processArray(subArray, objectName + "[0]");
+      final var temp = processArray(context, subArray, objectName + "[0]");
       result.addAll(temp.getLeft());
       bodyMatchers.matchers().addAll(temp.getRight().matchers());
     }
@@ -830,7 +935,7 @@ public final class OpenApiContractConverter {
     } else {
       bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.BOOLEAN_REGEX));
     }
-    return Pair.of(BasicTypeConstants.RANDOM.nextBoolean(), bodyMatchers.matchers().get(0));
+    return Pair.of(ComponentPlan.generate(BasicTypeConstants.RANDOM::nextBoolean), bodyMatchers.matchers().get(0));
   }
 
   private Pair<Object, BodyMatcher> processNumberArray(final Schema<?> arraySchema, final String objectName) {
@@ -842,21 +947,21 @@ public final class OpenApiContractConverter {
       } else {
         bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
       }
-      result = BasicTypeConstants.RANDOM.nextFloat();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextFloat);
     } else if (BasicTypeConstants.DOUBLE.equalsIgnoreCase(arraySchema.getFormat())) {
       if (Objects.nonNull(arraySchema.getName())) {
         bodyMatchers.jsonPath(arraySchema.getName() + "[0]", bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
       } else {
         bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
       }
-      result = Math.abs(BasicTypeConstants.RANDOM.nextDouble());
+      result = ComponentPlan.generate(() -> Math.abs(BasicTypeConstants.RANDOM.nextDouble()));
     } else {
       if (Objects.nonNull(arraySchema.getName())) {
         bodyMatchers.jsonPath(arraySchema.getName() + "[0]", bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
       } else {
         bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
       }
-      result = BasicTypeConstants.RANDOM.nextInt();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextInt);
     }
     return Pair.of(result, bodyMatchers.matchers().get(0));
   }
@@ -870,14 +975,14 @@ public final class OpenApiContractConverter {
       } else {
         bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
       }
-      result = BasicTypeConstants.RANDOM.nextInt();
+      result = ComponentPlan.generate(BasicTypeConstants.RANDOM::nextInt);
     } else {
       if (Objects.nonNull(arraySchema.getName())) {
         bodyMatchers.jsonPath(arraySchema.getName() + "[0]", bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
       } else {
         bodyMatchers.jsonPath(objectName + "[0]", bodyMatchers.byRegex(BasicTypeConstants.DECIMAL_REGEX));
       }
-      result = Math.abs(BasicTypeConstants.RANDOM.nextFloat());
+      result = ComponentPlan.generate(() -> Math.abs(BasicTypeConstants.RANDOM.nextFloat()));
     }
     return Pair.of(result, bodyMatchers.matchers().get(0));
   }
@@ -889,7 +994,7 @@ public final class OpenApiContractConverter {
     } else {
       bodyMatcher.jsonPath(objectName + "[0]", bodyMatcher.byRegex(BasicTypeConstants.STRING_REGEX));
     }
-    return Pair.of(RandomStringUtils.random(5, true, true), bodyMatcher.matchers().get(0));
+    return Pair.of(ComponentPlan.generate(() -> RandomStringUtils.random(5, true, true)), bodyMatcher.matchers().get(0));
   }
 
   private void processQueryParameters(final QueryParameters queryParameters, final List<Parameter> parameters, final PathItem pathItem) {
@@ -910,230 +1015,194 @@ public final class OpenApiContractConverter {
     }
   }
 
-  private OpenAPI getOpenApi(final File file) throws MultiApiContractConverterException {
-    final OpenAPI openAPI;
+  private OpenAPI getOpenApi(final File file, final JsonNode content, final Set<Path> dependencies, final Map<String, ComponentSource> componentSources)
+      throws MultiApiContractConverterException {
+    OpenAPI openAPI = null;
+    if (settings.isNativeReader()) {
+      openAPI = NativeOpenApiReader.read(content);
+    }
+    if (Objects.isNull(openAPI)) {
+      openAPI = parseOpenApi(file, content, dependencies, componentSources);
+    }
+    if (!Objects.nonNull(openAPI)) {
+      throw new MultiApiContractConverterException("Code generation failed why .yaml is empty");
+    }
+    return openAPI;
+  }
+
+  private OpenAPI parseOpenApi(final File file, final JsonNode content, final Set<Path> dependencies, final Map<String, ComponentSource> componentSources)
+      throws MultiApiContractConverterException {
+    OpenAPI openAPI;
     final ParseOptions options = new ParseOptions();
     options.setResolve(true);
     try {
-      final SwaggerParseResult result = new OpenAPIParser().readLocation(file.getPath(), null, options);
+      final SwaggerParseResult result = new OpenAPIV3Parser().parseJsonNode(file.getPath(), content, options);
       openAPI = result.getOpenAPI();
+      if (Objects.nonNull(openAPI)) {
+        final OpenAPIResolver resolver = new OpenAPIResolver(openAPI, Collections.emptyList(), file.getPath(), null, options);
+        openAPI = resolver.resolve();
+        collectDependencies(file, resolver, dependencies);
+        shareComponents(file, resolver, openAPI, componentSources);
+      }
     } catch (final ReadContentException e) {
       throw new MultiApiContractConverterException("Code generation failed when parser the .yaml file ");
     }
-    if (!Objects.nonNull(openAPI)) {
-      throw new MultiApiContractConverterException("Code generation failed why .yaml is empty");
-    }
     return openAPI;
   }
 
-  private List<Pair<Body, BodyMatchers>> processComposedSchema(final ComposedSchema composedSchema) {
+  private void shareComponents(final File file, final OpenAPIResolver resolver, final OpenAPI openAPI, final Map<String, ComponentSource> componentSources) {
+    final Map<String, Object> resolutionCache = resolver.getCache().getResolutionCache();
+    for (final Entry<String, String> renamed : resolver.getCache().getRenameCache().entrySet()) {
+      final String[] location = renamed.getKey().split("#", 2);
+      final Object component = resolutionCache.get(renamed.getKey());
+      if (location.length == 2 && !location[0].contains("://") && Objects.nonNull(openAPI.getComponents())) {
+        try {
+          final ComponentSource source = componentRegistry.source(file.toPath().resolveSibling(location[0]), location[1]);
+          if (component instanceof Schema && Objects.nonNull(openAPI.getComponents().getSchemas())) {
+            openAPI.getComponents().getSchemas().computeIfPresent(renamed.getValue(), (name, schema) -> source.share(schema));
+            componentSources.put(renamed.getValue(), source);
+          } else if (component instanceof Example && Objects.nonNull(openAPI.getComponents().getExamples())) {
+            openAPI.getComponents().getExamples().computeIfPresent(renamed.getValue(), (name, example) -> source.share(example));
+          }
+        } catch (final IOException e) {
+          log.debug("Component {} is not shared", renamed.getKey(), e);
+        }
+      }
+    }
+  }
+
+  private static void collectDependencies(final File file, final OpenAPIResolver resolver, final Set<Path> dependencies) {
+    for (final String location : resolver.getCache().getExternalFileCache().keySet()) {
+      if (!location.contains("://")) {
+        dependencies.add(file.toPath().resolveSibling(location).toAbsolutePath().normalize());
+      }
+    }
+  }
+
+  private List<Pair<Body, BodyMatchers>> processComposedSchema(final OpenApiConversionContext context, final ComposedSchema composedSchema) {
     final List<Pair<Body, BodyMatchers>> result = new LinkedList<>();
     if (Objects.nonNull(composedSchema.getAllOf())) {
       final List<Pair<Body, BodyMatchers>> tempBody = new LinkedList<>();
       for (Schema<?> schema : composedSchema.getAllOf()) {
-        tempBody.addAll(processBodyAndMatchers(schema));
+        tempBody.addAll(processBodyAndMatchers(context, schema));
       }
       result.add(unify(tempBody));
     } else if (Objects.nonNull(composedSchema.getOneOf())) {
       for (var oneSchema : composedSchema.getOneOf()) {
-        result.addAll(processBodyAndMatchers(oneSchema));
+        result.addAll(processBodyAndMatchers(context, oneSchema));
       }
     } else if (Objects.nonNull(composedSchema.getAnyOf())) {
-      for (var anySchema : combineSchema(composedSchema.getAnyOf())) {
-        result.addAll(processBodyAndMatchers(anySchema));
+      for (var anySchema : combineSchema(context, composedSchema.getAnyOf())) {
+        result.addAll(processBodyAndMatchers(context, anySchema));
       }
     }
     return result;
   }
 
   private Pair<Body, BodyMatchers> unify(final List<Pair<Body, BodyMatchers>> tempBody) {
-    Body body = new Body(Collections.emptyMap());
-    final BodyMatchers bodyMatchers = new BodyMatchers();
+    final var assembly = BodyAssembly.empty();
     for (var data : tempBody) {
-      body = combineProperties(body, data.getLeft());
-      bodyMatchers.matchers().addAll(data.getRight().matchers());
+      assembly.putAll(data.getLeft(), data.getRight());
     }
+    return assembly.build();
+  }
 
-    return Pair.of(body, bodyMatchers);
+  private List<Schema<?>> combineSchema(final OpenApiConversionContext context, final List<Schema> anyOfThis) {
+    final List<Schema<?>> branches = new ArrayList<>(anyOfThis.size());
+    for (var anySchema : anyOfThis) {
+      branches.add(solveReferenced(context, anySchema));
+    }
+    final AnyOfStrategy anyOfStrategy = settings.getAnyOfStrategy();
+    final int anyOfLimit = settings.getAnyOfLimit();
+    final List<int[]> combinations = new ArrayList<>();
+    if (anyOfStrategy == AnyOfStrategy.POWERSET) {
+      addPowerset(0, branches.size(), anyOfLimit, combinations);
+    } else if (!branches.isEmpty()) {
+      final int minSize = anyOfStrategy == AnyOfStrategy.ALL ? branches.size() : 1;
+      final int maxSize;
+      switch (anyOfStrategy) {
+        case EACH:
+          maxSize = 1;
+          break;
+        case PAIRWISE:
+          maxSize = Math.min(2, branches.size());
+          break;
+        default:
+          maxSize = branches.size();
+          break;
+      }
+      for (int size = minSize; size <= maxSize && combinations.size() <= anyOfLimit; size++) {
+        addCombinations(branches.size(), size, anyOfLimit, combinations);
+      }
+    }
+    if (combinations.size() > anyOfLimit) {
+      log.warn("AnyOf with {} schemas produces more than {} combinations using the {} strategy, only the first {} are kept", branches.size(), anyOfLimit, anyOfStrategy,
+               anyOfLimit);
+    }
+    final List<Schema<?>> finalList = new LinkedList<>();
+    for (var combination : combinations.subList(0, Math.min(combinations.size(), anyOfLimit))) {
+      finalList.add(mergeSchemas(branches, combination));
+    }
+    return finalList;
   }
 
-  private Pair<Body, BodyMatchers> bodyJoin(final Pair<Body, BodyMatchers> tempBody, final Body body, final BodyMatchers matchers) {
-    final BodyMatchers bodyMatchers = new BodyMatchers();
-    final var newBody = combineProperties(body, tempBody.getLeft());
-    bodyMatchers.matchers().addAll(tempBody.getRight().matchers());
-    bodyMatchers.matchers().addAll(matchers.matchers());
-    return Pair.of(newBody, bodyMatchers);
+  private static void addPowerset(final int first, final int branches, final int limit, final List<int[]> combinations) {
+    if (first < branches && combinations.size() <= limit) {
+      final int start = combinations.size();
+      combinations.add(new int[]{first});
+      addPowerset(first + 1, branches, limit, combinations);
+      final int end = combinations.size();
+      for (int index = start + 1; index < end && combinations.size() <= limit; index++) {
+        final int[] rest = combinations.get(index);
+        final int[] combination = new int[rest.length + 1];
+        combination[0] = first;
+        System.arraycopy(rest, 0, combination, 1, rest.length);
+        combinations.add(combination);
+      }
+    }
   }
 
-  private List<Schema<?>> combineSchema(final List<Schema> anyOfThis) {
-    final List<Schema<?>> finalList = new LinkedList<>();
-    if (!anyOfThis.isEmpty()) {
-      final var anySchema = solveReferenced(anyOfThis.remove(0));
-      if (anyOfThis.isEmpty()) {
-        finalList.add(cloneSchema(anySchema));
-      } else {
-        finalList.add(anySchema);
-        final List<Schema<?>> tempList = combineSchema(anyOfThis);
-        finalList.addAll(tempList);
-        for (var temp : tempList) {
-          final var swap = cloneSchema(temp);
-          swap.getProperties().putAll(anySchema.getProperties());
-          finalList.add(swap);
+  private static void addCombinations(final int branches, final int size, final int limit, final List<int[]> combinations) {
+    final int[] combination = new int[size];
+    for (int index = 0; index < size; index++) {
+      combination[index] = index;
+    }
+    boolean hasNext = true;
+    while (hasNext && combinations.size() <= limit) {
+      combinations.add(combination.clone());
+      int position = size - 1;
+      while (position >= 0 && combination[position] == branches - size + position) {
+        position--;
+      }
+      hasNext = position >= 0;
+      if (hasNext) {
+        combination[position]++;
+        for (int index = position + 1; index < size; index++) {
+          combination[index] = combination[index - 1] + 1;
         }
       }
     }
-
-    return finalList;
   }
 
-  private Schema<?> cloneMapSchema(final MapSchema origSchema) {
-    final var schema = new MapSchema();
-    schema.setDefault(origSchema.getDefault());
-    schema.setDeprecated(origSchema.getDeprecated());
-    schema.setDescription(origSchema.getDescription());
-    schema.setDiscriminator(origSchema.getDiscriminator());
-    schema.setEnum(origSchema.getEnum());
-    schema.setExample(origSchema.getExample());
-    schema.setExclusiveMaximum(origSchema.getExclusiveMaximum());
-    schema.setExclusiveMinimum(origSchema.getExclusiveMinimum());
-    schema.setExtensions(origSchema.getExtensions());
-    schema.setExternalDocs(origSchema.getExternalDocs());
-    schema.setFormat(origSchema.getFormat());
-    schema.setMaximum(origSchema.getMaximum());
-    schema.setMaxItems(origSchema.getMaxItems());
-    schema.setMaxLength(origSchema.getMaxLength());
-    schema.setMaxProperties(origSchema.getMaxProperties());
-    schema.setMinimum(origSchema.getMinimum());
-    schema.setMinItems(origSchema.getMinItems());
-    schema.setMinLength(origSchema.getMinLength());
-    schema.setMinProperties(origSchema.getMinProperties());
-    schema.setMultipleOf(origSchema.getMultipleOf());
-    schema.setName(origSchema.getName());
-    schema.setNot(origSchema.getNot());
-    schema.setNullable(origSchema.getNullable());
-    schema.setPattern(origSchema.getPattern());
-    schema.setAdditionalProperties(origSchema.getAdditionalProperties());
-    schema.setReadOnly(origSchema.getReadOnly());
-    schema.setRequired(origSchema.getRequired());
-    schema.setTitle(origSchema.getTitle());
-    schema.setType(origSchema.getType());
-    schema.setUniqueItems(origSchema.getUniqueItems());
-    schema.setWriteOnly(origSchema.getWriteOnly());
-    schema.xml(origSchema.getXml());
-    return schema;
-  }
-
-  private Schema cloneSchema(final Schema origSchema) {
-    final var schema = new Schema();
-    schema.setDefault(origSchema.getDefault());
-    schema.setDeprecated(origSchema.getDeprecated());
-    schema.setDescription(origSchema.getDescription());
-    schema.setDiscriminator(origSchema.getDiscriminator());
-    schema.setEnum(origSchema.getEnum());
-    schema.setExample(origSchema.getExample());
-    schema.setExclusiveMaximum(origSchema.getExclusiveMaximum());
-    schema.setExclusiveMinimum(origSchema.getExclusiveMinimum());
-    schema.setExtensions(origSchema.getExtensions());
-    schema.setExternalDocs(origSchema.getExternalDocs());
-    schema.setFormat(origSchema.getFormat());
-    schema.setMaximum(origSchema.getMaximum());
-    schema.setMaxItems(origSchema.getMaxItems());
-    schema.setMaxLength(origSchema.getMaxLength());
-    schema.setMaxProperties(origSchema.getMaxProperties());
-    schema.setMinimum(origSchema.getMinimum());
-    schema.setMinItems(origSchema.getMinItems());
-    schema.setMinLength(origSchema.getMinLength());
-    schema.setMinProperties(origSchema.getMinProperties());
-    schema.setMultipleOf(origSchema.getMultipleOf());
-    schema.setName(origSchema.getName());
-    schema.setNot(origSchema.getNot());
-    schema.setNullable(origSchema.getNullable());
-    schema.setPattern(origSchema.getPattern());
-    schema.setProperties(cloneProperties(origSchema.getProperties()));
-    schema.setReadOnly(origSchema.getReadOnly());
-    schema.setRequired(origSchema.getRequired());
-    schema.setTitle(origSchema.getTitle());
-    schema.setType(origSchema.getType());
-    schema.setUniqueItems(origSchema.getUniqueItems());
-    schema.setWriteOnly(origSchema.getWriteOnly());
-    schema.xml(origSchema.getXml());
-    return schema;
-  }
-
-  private Map<String, Schema> cloneProperties(final Map<String, Schema> properties) {
-    final var propertiesMap = new LinkedHashMap<String, Schema>();
-    if (Objects.nonNull(properties)) {
-      properties.forEach((key, property) -> {
-        if ("array".equalsIgnoreCase(property.getType())) {
-          if (property instanceof ArraySchema) {
-            propertiesMap.put(key, cloneArraySchema((ArraySchema) property));
-          } else {
-            propertiesMap.put(key, cloneSchema(property));
-          }
-        } else if (Objects.nonNull(property.getAdditionalProperties())) {
-          propertiesMap.put(key, cloneMapSchema((MapSchema) property));
-        } else {
-          propertiesMap.put(key, cloneSchema(property));
-        }
-      });
+  private Schema<?> mergeSchemas(final List<Schema<?>> branches, final int[] combination) {
+    final Schema<?> merged;
+    if (combination.length == 1) {
+      merged = branches.get(combination[0]);
+    } else {
+      final List<Schema<?>> combined = new ArrayList<>(combination.length);
+      for (int index : combination) {
+        combined.add(branches.get(index));
+      }
+      merged = new SchemaOverlay(combined);
     }
-    return propertiesMap;
-  }
-
-  private Schema cloneArraySchema(final ArraySchema origSchema) {
-    final var schema = new ArraySchema();
-    schema.setDefault(origSchema.getDefault());
-    schema.setDeprecated(origSchema.getDeprecated());
-    schema.setDescription(origSchema.getDescription());
-    schema.setDiscriminator(origSchema.getDiscriminator());
-    schema.setEnum(origSchema.getEnum());
-    schema.setExample(origSchema.getExample());
-    schema.setExclusiveMaximum(origSchema.getExclusiveMaximum());
-    schema.setExclusiveMinimum(origSchema.getExclusiveMinimum());
-    schema.setExtensions(origSchema.getExtensions());
-    schema.setExternalDocs(origSchema.getExternalDocs());
-    schema.setFormat(origSchema.getFormat());
-    schema.setMaximum(origSchema.getMaximum());
-    schema.setMaxItems(origSchema.getMaxItems());
-    schema.setMaxLength(origSchema.getMaxLength());
-    schema.setMaxProperties(origSchema.getMaxProperties());
-    schema.setMinimum(origSchema.getMinimum());
-    schema.setMinItems(origSchema.getMinItems());
-    schema.setMinLength(origSchema.getMinLength());
-    schema.setMinProperties(origSchema.getMinProperties());
-    schema.setMultipleOf(origSchema.getMultipleOf());
-    schema.setName(origSchema.getName());
-    schema.setNot(origSchema.getNot());
-    schema.setNullable(origSchema.getNullable());
-    schema.setPattern(origSchema.getPattern());
-    schema.setReadOnly(origSchema.getReadOnly());
-    schema.setRequired(origSchema.getRequired());
-    schema.setTitle(origSchema.getTitle());
-    schema.setType(origSchema.getType());
-    schema.setItems(origSchema.getItems());
-    schema.setUniqueItems(origSchema.getUniqueItems());
-    schema.setWriteOnly(origSchema.getWriteOnly());
-    schema.xml(origSchema.getXml());
-    return schema;
-  }
-
-  private Schema solveReferenced(final Schema schema) {
+    return merged;
+  }
+
+  private Schema solveReferenced(final OpenApiConversionContext context, final Schema schema) {
     Schema solvedSchema = schema;
     if (isReferenced(schema)) {
-      solvedSchema = getReferencedProperties(schema);
+      solvedSchema = getReferencedProperties(context, schema);
     }
     return solvedSchema;
   }
-
-  private boolean existSchemaWithPropertiesInComponent(final String ref) {
-    return componentsMap.containsKey(ref) && Objects.nonNull(componentsMap.get(ref).getProperties());
-  }
-
-  private Schema<?> getSchemaFromComponent(final String ref) {
-    return componentsMap.get(ref);
-  }
-
-  private static Example getExampleFromComponent(final String ref) {
-    return EXAMPLES_MAP.get(ref);
-  }
-}
\ No newline at end of file
+}
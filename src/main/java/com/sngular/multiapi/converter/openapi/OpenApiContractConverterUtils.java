@@ -15,6 +15,7 @@ import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
 import com.sngular.multiapi.converter.utils.BasicTypeConstants;
 import org.apache.commons.lang3.tuple.Pair;
 import org.codehaus.plexus.util.StringUtils;
@@ -55,6 +56,15 @@ public final class OpenApiContractConverterUtils {
     return refName;
   }
 
+  public static String mapRefName(final RequestBody requestBody) {
+    String refName = "";
+    if (Objects.nonNull(requestBody.get$ref())) {
+      final String[] wholeRef = requestBody.get$ref().split("/");
+      refName = wholeRef[wholeRef.length - 1];
+    }
+    return refName;
+  }
+
   public static Pair<Body, BodyMatchers> processBasicTypeBody(final Schema schema) {
     final Body body;
     final BodyMatchers bodyMatchers = new BodyMatchers();
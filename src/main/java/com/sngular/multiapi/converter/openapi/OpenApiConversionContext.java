@@ -0,0 +1,171 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
+import com.sngular.multiapi.converter.openapi.ComponentRegistry.ComponentSource;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+
+final class OpenApiConversionContext {
+
+  private final Map<String, Schema> componentsMap;
+
+  private final Map<String, Example> examplesMap;
+
+  private final Map<String, RequestBody> requestBodiesMap;
+
+  private final Map<String, ComponentSource> componentSources;
+
+  private final Map<String, Example> exampleIndex = new ConcurrentHashMap<>();
+
+  private final Map<String, List<ComponentPlan>> componentPlans = new ConcurrentHashMap<>();
+
+  private final ThreadLocal<ReferenceTrail> referenceTrail = ThreadLocal.withInitial(ReferenceTrail::new);
+
+  private final int recursionDepth;
+
+  private final Set<String> sharedKeys = new HashSet<>();
+
+  OpenApiConversionContext(final OpenAPI openApi, final int recursionDepth, final Map<String, ComponentSource> componentSources) {
+    this.recursionDepth = recursionDepth;
+    this.componentSources = componentSources;
+    final Components components = openApi.getComponents();
+    componentsMap = Objects.nonNull(components) && Objects.nonNull(components.getSchemas()) ? components.getSchemas() : Collections.emptyMap();
+    examplesMap = Objects.nonNull(components) && Objects.nonNull(components.getExamples()) ? components.getExamples() : Collections.emptyMap();
+    requestBodiesMap = Objects.nonNull(components) && Objects.nonNull(components.getRequestBodies()) ? components.getRequestBodies() : Collections.emptyMap();
+    for (var source : componentSources.values()) {
+      sharedKeys.add(source.getKey());
+    }
+  }
+
+  boolean existSchemaWithProperties(final String ref) {
+    return componentsMap.containsKey(ref) && Objects.nonNull(componentsMap.get(ref).getProperties());
+  }
+
+  Schema<?> getSchema(final String ref) {
+    return componentsMap.get(ref);
+  }
+
+  Example resolveExample(final Example example) {
+    Example resolved = example;
+    if (Objects.nonNull(example.get$ref())) {
+      final String ref = OpenApiContractConverterUtils.mapRefName(example);
+      resolved = exampleIndex.get(ref);
+      if (Objects.isNull(resolved)) {
+        resolved = followExample(ref);
+        exampleIndex.put(ref, resolved);
+      }
+    }
+    return resolved;
+  }
+
+  RequestBody resolveRequestBody(final RequestBody requestBody) {
+    RequestBody resolved = requestBody;
+    if (Objects.nonNull(requestBody.get$ref())) {
+      resolved = requestBodiesMap.get(OpenApiContractConverterUtils.mapRefName(requestBody));
+      if (Objects.isNull(resolved)) {
+        throw new MultiApiContractConverterException("Reference " + requestBody.get$ref() + " can not be resolved");
+      }
+    }
+    return resolved;
+  }
+
+  boolean enterReference(final String ref) {
+    final var trail = referenceTrail.get();
+    final String key = keyOf(ref);
+    trail.encounter(Set.of(key));
+    final boolean expand = trail.depth(key) < recursionDepth;
+    if (expand) {
+      trail.push(key);
+    }
+    return expand;
+  }
+
+  void exitReference(final String ref) {
+    referenceTrail.get().pop(keyOf(ref));
+  }
+
+  Pair<Object, BodyMatchers> instantiateComponent(
+      final String ref, final String objectName, final Supplier<Pair<Object, BodyMatchers>> generator, final Supplier<Pair<Object, BodyMatchers>> placeholder) {
+    final var trail = referenceTrail.get();
+    final var source = componentSources.get(ref);
+    final var plans = Objects.nonNull(source) ? source.plans(objectName) : componentPlans.computeIfAbsent(ref + "@" + objectName, key -> new CopyOnWriteArrayList<>());
+    var plan = findPlan(trail, plans);
+    final Pair<Object, BodyMatchers> result;
+    if (Objects.nonNull(plan)) {
+      trail.encounter(plan.getRefDepths().keySet());
+      result = plan.instantiate();
+    } else if (enterReference(ref)) {
+      final var generated = generator.get();
+      final String key = keyOf(ref);
+      final var encountered = trail.pop(key);
+      encountered.add(key);
+      plan = ComponentPlan.compile(generated, trail.depthsOf(encountered));
+      if (Objects.isNull(source) || sharedKeys.containsAll(encountered)) {
+        plans.add(plan);
+      }
+      result = plan.instantiate();
+    } else {
+      result = placeholder.get();
+    }
+    return result;
+  }
+
+  private Example followExample(final String ref) {
+    final Set<String> visited = new HashSet<>();
+    String current = ref;
+    Example example = examplesMap.get(current);
+    while (Objects.nonNull(example) && Objects.nonNull(example.get$ref()) && visited.add(current)) {
+      current = OpenApiContractConverterUtils.mapRefName(example);
+      example = examplesMap.get(current);
+    }
+    if (Objects.isNull(example) || Objects.nonNull(example.get$ref())) {
+      throw new MultiApiContractConverterException("Example " + ref + " can not be resolved");
+    }
+    return example;
+  }
+
+  private String keyOf(final String ref) {
+    final var source = componentSources.get(ref);
+    return Objects.nonNull(source) ? source.getKey() : ref;
+  }
+
+  private ComponentPlan findPlan(final ReferenceTrail trail, final List<ComponentPlan> plans) {
+    ComponentPlan found = null;
+    for (var plan : plans) {
+      if (trail.matches(plan.getRefDepths()) && isCurrent(plan)) {
+        found = plan;
+        break;
+      }
+    }
+    return found;
+  }
+
+  private boolean isCurrent(final ComponentPlan plan) {
+    boolean current = true;
+    for (var key : plan.getRefDepths().keySet()) {
+      current &= !key.contains("#") || sharedKeys.contains(key);
+    }
+    return current;
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+final class ReferenceTrail {
+
+  private final Map<String, Integer> depths = new HashMap<>();
+
+  private final Deque<Set<String>> encountered = new ArrayDeque<>();
+
+  int depth(final String ref) {
+    return depths.getOrDefault(ref, 0);
+  }
+
+  void encounter(final Collection<String> refs) {
+    for (var references : encountered) {
+      references.addAll(refs);
+    }
+  }
+
+  void push(final String ref) {
+    depths.merge(ref, 1, Integer::sum);
+    encountered.push(new HashSet<>());
+  }
+
+  Set<String> pop(final String ref) {
+    depths.computeIfPresent(ref, (key, depth) -> depth > 1 ? depth - 1 : null);
+    return encountered.pop();
+  }
+
+  Map<String, Integer> depthsOf(final Collection<String> refs) {
+    final Map<String, Integer> refDepths = new HashMap<>();
+    for (var ref : refs) {
+      refDepths.put(ref, depth(ref));
+    }
+    return refDepths;
+  }
+
+  boolean matches(final Map<String, Integer> refDepths) {
+    boolean matches = true;
+    for (Entry<String, Integer> refDepth : refDepths.entrySet()) {
+      if (depth(refDepth.getKey()) != refDepth.getValue()) {
+        matches = false;
+        break;
+      }
+    }
+    return matches;
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+final class SchemaOverlay extends Schema<Object> {
+
+  private final List<Schema<?>> branches;
+
+  private final Map<String, Schema> properties;
+
+  SchemaOverlay(final List<Schema<?>> branches) {
+    this.branches = List.copyOf(branches);
+    final List<Map<String, Schema>> layers = new ArrayList<>(branches.size());
+    for (var branch : branches) {
+      if (Objects.nonNull(branch.getProperties())) {
+        layers.add(branch.getProperties());
+      }
+    }
+    this.properties = layers.isEmpty() ? null : new LayeredProperties(layers);
+  }
+
+  @Override
+  public Map<String, Schema> getProperties() {
+    return properties;
+  }
+
+  @Override
+  public String get$ref() {
+    return first(Schema::get$ref);
+  }
+
+  @Override
+  public Schema<?> getItems() {
+    return first(Schema::getItems);
+  }
+
+  @Override
+  public Object getAdditionalProperties() {
+    return first(Schema::getAdditionalProperties);
+  }
+
+  @Override
+  public Map<String, Object> getExtensions() {
+    return first(Schema::getExtensions);
+  }
+
+  @Override
+  public String getType() {
+    return first(Schema::getType);
+  }
+
+  @Override
+  public String getFormat() {
+    return first(Schema::getFormat);
+  }
+
+  @Override
+  public String getName() {
+    return first(Schema::getName);
+  }
+
+  @Override
+  public String getTitle() {
+    return first(Schema::getTitle);
+  }
+
+  @Override
+  public String getDescription() {
+    return first(Schema::getDescription);
+  }
+
+  @Override
+  public Object getExample() {
+    return first(Schema::getExample);
+  }
+
+  @Override
+  public Object getDefault() {
+    return first(Schema::getDefault);
+  }
+
+  @Override
+  public List<Object> getEnum() {
+    return (List<Object>) first(Schema::getEnum);
+  }
+
+  @Override
+  public List<String> getRequired() {
+    return first(Schema::getRequired);
+  }
+
+  @Override
+  public Boolean getNullable() {
+    return first(Schema::getNullable);
+  }
+
+  @Override
+  public String getPattern() {
+    return first(Schema::getPattern);
+  }
+
+  @Override
+  public Integer getMinLength() {
+    return first(Schema::getMinLength);
+  }
+
+  @Override
+  public Integer getMaxLength() {
+    return first(Schema::getMaxLength);
+  }
+
+  @Override
+  public BigDecimal getMinimum() {
+    return first(Schema::getMinimum);
+  }
+
+  @Override
+  public BigDecimal getMaximum() {
+    return first(Schema::getMaximum);
+  }
+
+  @Override
+  public Boolean getExclusiveMinimum() {
+    return first(Schema::getExclusiveMinimum);
+  }
+
+  @Override
+  public Boolean getExclusiveMaximum() {
+    return first(Schema::getExclusiveMaximum);
+  }
+
+  @Override
+  public BigDecimal getMultipleOf() {
+    return first(Schema::getMultipleOf);
+  }
+
+  @Override
+  public Integer getMinItems() {
+    return first(Schema::getMinItems);
+  }
+
+  @Override
+  public Integer getMaxItems() {
+    return first(Schema::getMaxItems);
+  }
+
+  @Override
+  public Boolean getUniqueItems() {
+    return first(Schema::getUniqueItems);
+  }
+
+  private <T> T first(final Function<Schema<?>, T> getter) {
+    T value = null;
+    for (var iterator = branches.iterator(); Objects.isNull(value) && iterator.hasNext();) {
+      value = getter.apply(iterator.next());
+    }
+    return value;
+  }
+
+  private static final class LayeredProperties extends AbstractMap<String, Schema> {
+
+    private final List<Map<String, Schema>> layers;
+
+    private final Set<String> keys = new LinkedHashSet<>();
+
+    private LayeredProperties(final List<Map<String, Schema>> layers) {
+      this.layers = List.copyOf(layers);
+      for (int index = layers.size() - 1; index >= 0; index--) {
+        keys.addAll(layers.get(index).keySet());
+      }
+    }
+
+    @Override
+    public Schema get(final Object key) {
+      Schema value = null;
+      boolean found = false;
+      for (var iterator = layers.iterator(); !found && iterator.hasNext();) {
+        final Map<String, Schema> layer = iterator.next();
+        found = layer.containsKey(key);
+        if (found) {
+          value = layer.get(key);
+        }
+      }
+      return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return keys.contains(key);
+    }
+
+    @Override
+    public Set<Entry<String, Schema>> entrySet() {
+      return new AbstractSet<>() {
+
+        @Override
+        public Iterator<Entry<String, Schema>> iterator() {
+          return keys.stream().<Entry<String, Schema>>map(key -> new SimpleImmutableEntry<>(key, get(key))).iterator();
+        }
+
+        @Override
+        public int size() {
+          return keys.size();
+        }
+      };
+    }
+  }
+}
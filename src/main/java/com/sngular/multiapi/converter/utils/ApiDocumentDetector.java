@@ -0,0 +1,86 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+public final class ApiDocumentDetector {
+
+  private final long byteLimit;
+
+  private final int tokenLimit;
+
+  public ApiDocumentDetector(final long byteLimit, final int tokenLimit) {
+    this.byteLimit = byteLimit;
+    this.tokenLimit = tokenLimit;
+  }
+
+  public boolean isApiDocument(final File file) {
+    boolean isApiDocument;
+    try (InputStream input = Files.newInputStream(file.toPath())) {
+      isApiDocument = isApiDocument(input);
+    } catch (final IOException e) {
+      isApiDocument = false;
+    }
+    return isApiDocument;
+  }
+
+  public boolean isApiDocument(final InputStream input) {
+    boolean isApiDocument = false;
+    try (JsonParser parser = BasicTypeConstants.OBJECT_MAPPER.getFactory().createParser(input)) {
+      if (parser.nextToken() == JsonToken.START_OBJECT) {
+        var tokens = 1;
+        var token = parser.nextToken();
+        while (!isApiDocument && token == JsonToken.FIELD_NAME && tokens < tokenLimit && isWithinBytes(parser)) {
+          final String fieldName = parser.getCurrentName();
+          isApiDocument = BasicTypeConstants.OPENAPI.equals(fieldName) || BasicTypeConstants.ASYNCAPI.equals(fieldName);
+          if (!isApiDocument) {
+            token = skipValue(parser) ? parser.nextToken() : null;
+            tokens += 2;
+          }
+        }
+      }
+    } catch (final IOException e) {
+      isApiDocument = false;
+    }
+    return isApiDocument;
+  }
+
+  private boolean skipValue(final JsonParser parser) throws IOException {
+    var token = parser.nextToken();
+    var depth = 0;
+    var within = true;
+    do {
+      if (Objects.isNull(token) || !isWithinBytes(parser)) {
+        within = false;
+      } else {
+        if (token.isStructStart()) {
+          depth++;
+        } else if (token.isStructEnd()) {
+          depth--;
+        }
+        if (depth > 0) {
+          token = parser.nextToken();
+        }
+      }
+    } while (within && depth > 0);
+    return within;
+  }
+
+  private boolean isWithinBytes(final JsonParser parser) {
+    final JsonLocation location = parser.getCurrentLocation();
+    return Math.max(location.getByteOffset(), location.getCharOffset()) < byteLimit;
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import com.sngular.multiapi.converter.model.ConverterSettings;
+import com.sngular.multiapi.converter.model.ManifestEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.cloud.contract.spec.Contract;
+import org.springframework.cloud.contract.verifier.converter.YamlContract;
+import org.springframework.cloud.contract.verifier.converter.YamlContractConverter;
+
+@Slf4j
+public final class ConversionManifest {
+
+  private static final String MANIFEST_FILE = "manifest.yml";
+
+  private static final String CONTRACTS_FOLDER = "contracts";
+
+  private static final YAMLMapper YAML_MAPPER = new YAMLMapper();
+
+  private final Path manifestFile;
+
+  private final Path contractsFolder;
+
+  private final String settings;
+
+  private final Map<String, ManifestEntry> entries;
+
+  private final Map<String, String> dependencyHashes = new ConcurrentHashMap<>();
+
+  public ConversionManifest(final File directory, final ConverterSettings settings) {
+    this.settings = hash(settings.contractFingerprint().getBytes(StandardCharsets.UTF_8));
+    this.manifestFile = directory.toPath().resolve(MANIFEST_FILE);
+    this.contractsFolder = directory.toPath().resolve(CONTRACTS_FOLDER);
+    this.entries = new ConcurrentHashMap<>(readManifest(manifestFile));
+  }
+
+  public static String hash(final byte[] content) {
+    return DigestUtils.sha256Hex(content);
+  }
+
+  public Collection<Contract> findContracts(final File specification, final String hash) {
+    final ManifestEntry entry = entries.get(keyOf(specification.toPath()));
+    Collection<Contract> contracts = null;
+    if (Objects.nonNull(entry) && hash.equals(entry.getHash()) && settings.equals(entry.getSettings()) && dependenciesUnchanged(entry)) {
+      contracts = readContracts(contractsFolder.resolve(entry.getContracts()));
+      if (Objects.isNull(contracts)) {
+        log.warn("Stored contracts for {} could not be read, converting it again", specification);
+      }
+    }
+    return contracts;
+  }
+
+  public void store(final File specification, final String hash, final Set<Path> dependencies, final Collection<Contract> contracts) {
+    final String key = keyOf(specification.toPath());
+    final String contractsName = hash(key.getBytes()) + ".yml";
+    try {
+      writeContracts(contractsFolder.resolve(contractsName), contracts);
+      final Map<String, String> hashedDependencies = new TreeMap<>();
+      for (final Path dependency : dependencies) {
+        final String dependencyHash = hashDependency(dependency);
+        if (Objects.isNull(dependencyHash)) {
+          throw new IOException("Dependency " + dependency + " could not be read");
+        }
+        hashedDependencies.put(keyOf(dependency), dependencyHash);
+      }
+      entries.put(key, ManifestEntry.builder().hash(hash).settings(settings).dependencies(hashedDependencies).contracts(contractsName).build());
+      writeManifest();
+    } catch (final IOException e) {
+      entries.remove(key);
+      log.warn("Contracts for {} could not be stored, it will be converted again next time", specification, e);
+    }
+  }
+
+  private boolean dependenciesUnchanged(final ManifestEntry entry) {
+    boolean unchanged = true;
+    final var dependencies = Objects.requireNonNullElse(entry.getDependencies(), Collections.<String, String>emptyMap()).entrySet().iterator();
+    while (unchanged && dependencies.hasNext()) {
+      final var dependency = dependencies.next();
+      final String dependencyHash = hashDependency(Path.of(dependency.getKey()));
+      unchanged = Objects.nonNull(dependencyHash) && dependencyHash.equals(dependency.getValue());
+    }
+    return unchanged;
+  }
+
+  private String hashDependency(final Path dependency) {
+    final File file = dependency.toFile();
+    final String cacheKey = keyOf(dependency) + "|" + file.lastModified() + "|" + file.length();
+    String dependencyHash = dependencyHashes.get(cacheKey);
+    if (Objects.isNull(dependencyHash)) {
+      try {
+        dependencyHash = hash(Files.readAllBytes(dependency));
+        dependencyHashes.put(cacheKey, dependencyHash);
+      } catch (final IOException e) {
+        log.debug("Dependency {} could not be read, it is considered changed", dependency, e);
+      }
+    }
+    return dependencyHash;
+  }
+
+  private static Collection<Contract> readContracts(final Path contractsFile) {
+    Collection<Contract> contracts = null;
+    if (Files.isRegularFile(contractsFile)) {
+      try {
+        contracts = YamlContractConverter.INSTANCE.convertFrom(contractsFile.toFile());
+      } catch (final IllegalStateException e) {
+        log.debug("Stored contracts {} could not be parsed", contractsFile, e);
+      }
+    }
+    return contracts;
+  }
+
+  private static void writeContracts(final Path contractsFile, final Collection<Contract> contracts) throws IOException {
+    Files.createDirectories(contractsFile.getParent());
+    final Path temporaryFile = Files.createTempFile(contractsFile.getParent(), CONTRACTS_FOLDER, ".tmp");
+    try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+      for (final Contract contract : contracts) {
+        final List<YamlContract> yamlContracts = YamlContractConverter.INSTANCE.convertTo(List.of(contract));
+        for (final YamlContract yamlContract : yamlContracts) {
+          output.write(YAML_MAPPER.writeValueAsBytes(yamlContract));
+          output.write('\n');
+        }
+      }
+    }
+    Files.move(temporaryFile, contractsFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private synchronized void writeManifest() throws IOException {
+    Files.createDirectories(manifestFile.getParent());
+    final Path temporaryFile = Files.createTempFile(manifestFile.getParent(), MANIFEST_FILE, ".tmp");
+    BasicTypeConstants.OBJECT_MAPPER.writeValue(temporaryFile.toFile(), new TreeMap<>(entries));
+    Files.move(temporaryFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static Map<String, ManifestEntry> readManifest(final Path manifestFile) {
+    Map<String, ManifestEntry> manifest = Collections.emptyMap();
+    if (Files.isRegularFile(manifestFile)) {
+      try {
+        manifest = BasicTypeConstants.OBJECT_MAPPER.readValue(manifestFile.toFile(), new TypeReference<Map<String, ManifestEntry>>() {});
+      } catch (final IOException e) {
+        log.warn("Manifest {} could not be read, every specification will be converted", manifestFile, e);
+      }
+    }
+    return Objects.requireNonNullElse(manifest, Collections.emptyMap());
+  }
+
+  private static String keyOf(final Path path) {
+    return path.toAbsolutePath().normalize().toString();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public final class DocumentCache {
+
+  private final int maximumSize;
+
+  private final Map<Path, CachedDocument> documents;
+
+  public DocumentCache(final int maximumSize) {
+    this.maximumSize = maximumSize;
+    this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Path, CachedDocument> eldest) {
+        return size() > DocumentCache.this.maximumSize;
+      }
+    };
+  }
+
+  public JsonNode read(final Path path) throws IOException {
+    return load(path).getContent();
+  }
+
+  public <T> T compile(final Path path, final Class<T> type, final Function<JsonNode, T> compiler) throws IOException {
+    final CachedDocument document = load(path);
+    return type.cast(document.getCompiled().computeIfAbsent(type, key -> compiler.apply(document.getContent())));
+  }
+
+  private CachedDocument load(final Path path) throws IOException {
+    final Path canonicalPath = path.toRealPath();
+    final long lastModified = Files.getLastModifiedTime(canonicalPath).toMillis();
+    final long size = Files.size(canonicalPath);
+    CachedDocument document;
+    synchronized (documents) {
+      document = documents.get(canonicalPath);
+    }
+    if (Objects.isNull(document) || document.getLastModified() != lastModified || document.getSize() != size) {
+      document = new CachedDocument(lastModified, size, BasicTypeConstants.OBJECT_MAPPER.readTree(canonicalPath.toFile()), new ConcurrentHashMap<>());
+      if (maximumSize > 0) {
+        synchronized (documents) {
+          documents.put(canonicalPath, document);
+        }
+      }
+    }
+    return document;
+  }
+
+  public int size() {
+    synchronized (documents) {
+      return documents.size();
+    }
+  }
+
+  private static final class CachedDocument {
+
+    private final long lastModified;
+
+    private final long size;
+
+    private final JsonNode content;
+
+    private final Map<Class<?>, Object> compiled;
+
+    private CachedDocument(final long lastModified, final long size, final JsonNode content, final Map<Class<?>, Object> compiled) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.content = content;
+      this.compiled = compiled;
+    }
+
+    private long getLastModified() {
+      return lastModified;
+    }
+
+    private long getSize() {
+      return size;
+    }
+
+    private JsonNode getContent() {
+      return content;
+    }
+
+    private Map<Class<?>, Object> getCompiled() {
+      return compiled;
+    }
+  }
+}
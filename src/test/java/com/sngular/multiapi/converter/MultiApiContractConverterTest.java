@@ -0,0 +1,226 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import com.sngular.multiapi.converter.model.ConverterSettings;
+import com.sngular.multiapi.converter.util.SpecificationGenerator;
+import com.sngular.multiapi.converter.utils.ConversionManifest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.contract.spec.Contract;
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+
+class MultiApiContractConverterTest {
+
+  private static final String OPENAPI_COMPLETE_API = "src/test/resources/openapi/testCompleteApi.yml";
+
+  private static final String OPENAPI_FALSE = "src/test/resources/openapi/testFalse.yml";
+
+  private static final String ASYNCAPI_EVENT_API = "src/test/resources/asyncapi/event-api.yml";
+
+  private static final String ASYNCAPI_DIRECTORY = "src/test/resources/asyncapi";
+
+  private static final String OPENAPI_DIRECTORY = "src/test/resources/openapi";
+
+  private final MultiApiContractConverter multiApiContractConverter = new MultiApiContractConverter(ConverterSettings.builder().parallelism(4).build());
+
+  @Test
+  @DisplayName("Batch: Check that contracts keep the order of the given files")
+  void convertFilesKeepsOrder() {
+    final List<File> files = List.of(new File(ASYNCAPI_EVENT_API), new File(OPENAPI_FALSE), new File(OPENAPI_COMPLETE_API));
+    final List<Contract> expected = new ArrayList<>();
+    files.forEach(file -> {
+      final var contracts = multiApiContractConverter.convertFrom(file);
+      if (contracts != null) {
+        expected.addAll(contracts);
+      }
+    });
+
+    final List<Contract> contracts = multiApiContractConverter.convertFrom(files);
+
+    assertThat(getNames(contracts)).isEqualTo(getNames(expected)).hasSize(8);
+  }
+
+  @Test
+  @DisplayName("Batch: Check that a directory is converted with the given executor")
+  void convertDirectoryWithExecutor() {
+    final ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      final List<Contract> first = multiApiContractConverter.convertDirectory(new File(ASYNCAPI_DIRECTORY), executor);
+      final List<Contract> second = multiApiContractConverter.convertDirectory(new File(ASYNCAPI_DIRECTORY), executor);
+      assertThat(first).isNotEmpty();
+      assertThat(getNames(first)).isEqualTo(getNames(second));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("Batch: Check that specifications converted at the same time do not share state")
+  void convertConcurrentlyMatchesSequential() {
+    final List<File> specs = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      specs.add(new File(OPENAPI_DIRECTORY + "/testExamplesGlobal.yml"));
+      specs.add(new File(OPENAPI_DIRECTORY + "/testMultiExamplesGlobal.yml"));
+      specs.add(new File(OPENAPI_DIRECTORY + "/testCompleteApi.yml"));
+      specs.add(new File(ASYNCAPI_DIRECTORY + "/testExternalFilesWithMultipleSchemas.yml"));
+    }
+    final List<Contract> expected = new ArrayList<>();
+    specs.forEach(file -> expected.addAll(multiApiContractConverter.convertFrom(file)));
+
+    final List<Contract> contracts = multiApiContractConverter.convertFrom(specs);
+
+    assertThat(getNames(contracts)).isEqualTo(getNames(expected));
+  }
+
+  @Test
+  @DisplayName("Stream: Check that streamed contracts match the converted ones")
+  void streamMatchesConversion() {
+    for (final String spec : List.of(OPENAPI_COMPLETE_API, ASYNCAPI_EVENT_API, OPENAPI_DIRECTORY + "/testAnyOfs.yml")) {
+      final File file = new File(spec);
+      final List<Contract> expected = new ArrayList<>(multiApiContractConverter.convertFrom(file));
+
+      final List<Contract> streamed = multiApiContractConverter.streamFrom(file).collect(Collectors.toList());
+
+      assertThat(getNames(streamed)).isEqualTo(getNames(expected)).isNotEmpty();
+    }
+    assertThat(multiApiContractConverter.streamFrom(new File(OPENAPI_FALSE))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Incremental: Check that only specifications with changed dependencies are converted again")
+  void convertIncrementally(@TempDir final Path workspace) throws IOException {
+    final Path specs = workspace.resolve("specs");
+    final File manifestDirectory = workspace.resolve("manifest").toFile();
+    copyFixture(Path.of(OPENAPI_DIRECTORY), specs, "testExternalRef.yml", "test-config/components.yml");
+    copyFixture(Path.of(ASYNCAPI_DIRECTORY), specs, "testExternalFiles.yml", "externalfiles/secondSchema.yml");
+    final File openApiSpec = specs.resolve("testExternalRef.yml").toFile();
+    final File asyncApiSpec = specs.resolve("testExternalFiles.yml").toFile();
+    final ConverterSettings settings = ConverterSettings.builder().incrementalDirectory(manifestDirectory).build();
+
+    final List<Contract> converted = new MultiApiContractConverter(settings).convertFrom(List.of(openApiSpec, asyncApiSpec));
+
+    final List<Contract> reused = new MultiApiContractConverter(settings).convertFrom(List.of(openApiSpec, asyncApiSpec));
+    assertThat(converted).isNotEmpty();
+    assertThat(getNames(reused)).isEqualTo(getNames(converted));
+    for (int i = 0; i < converted.size(); i++) {
+      assertSameContent(reused.get(i), converted.get(i));
+    }
+
+    Files.writeString(specs.resolve("test-config/components.yml"), "\n# changed", StandardOpenOption.APPEND);
+    final var manifest = new ConversionManifest(manifestDirectory, settings);
+    assertThat(manifest.findContracts(openApiSpec, ConversionManifest.hash(Files.readAllBytes(openApiSpec.toPath())))).isNull();
+    assertThat(manifest.findContracts(asyncApiSpec, ConversionManifest.hash(Files.readAllBytes(asyncApiSpec.toPath())))).isNotNull();
+
+    Files.writeString(specs.resolve("externalfiles/secondSchema.yml"), "\n# changed", StandardOpenOption.APPEND);
+    assertThat(manifest.findContracts(asyncApiSpec, ConversionManifest.hash(Files.readAllBytes(asyncApiSpec.toPath())))).isNull();
+  }
+
+  @Test
+  @DisplayName("Incremental: Check that specifications are converted again when the settings change")
+  void convertIncrementallyWithChangedSettings(@TempDir final Path workspace) throws IOException {
+    final File openApiSpec = new File(OPENAPI_COMPLETE_API);
+    final String hash = ConversionManifest.hash(Files.readAllBytes(openApiSpec.toPath()));
+    final ConverterSettings settings = ConverterSettings.builder().incrementalDirectory(workspace.toFile()).build();
+    final ConverterSettings limitedSettings = settings.toBuilder().specificationContractLimit(1).build();
+
+    final Collection<Contract> converted = new MultiApiContractConverter(settings).convertFrom(openApiSpec);
+    final Collection<Contract> limited = new MultiApiContractConverter(limitedSettings).convertFrom(openApiSpec);
+
+    assertThat(converted).hasSizeGreaterThan(1);
+    assertThat(limited).hasSize(1);
+    assertThat(new ConversionManifest(workspace.toFile(), settings).findContracts(openApiSpec, hash)).isNull();
+    assertThat(new ConversionManifest(workspace.toFile(), limitedSettings).findContracts(openApiSpec, hash)).hasSize(1);
+    assertThat(new ConversionManifest(workspace.toFile(), settings.toBuilder().nativeReader(true).build()).findContracts(openApiSpec, hash)).isNull();
+  }
+
+  @Test
+  @DisplayName("Incremental: Check that contracts depending on an unreadable file are not reused")
+  void convertWithUnreadableDependency(@TempDir final Path workspace) throws IOException {
+    final File openApiSpec = new File(OPENAPI_COMPLETE_API);
+    final String hash = ConversionManifest.hash(Files.readAllBytes(openApiSpec.toPath()));
+    final var manifest = new ConversionManifest(workspace.toFile(), ConverterSettings.defaults());
+
+    manifest.store(openApiSpec, hash, Set.of(workspace.resolve("missing.yml")), multiApiContractConverter.convertFrom(openApiSpec));
+
+    assertThat(manifest.findContracts(openApiSpec, hash)).isNull();
+    assertThat(new ConversionManifest(workspace.toFile(), ConverterSettings.defaults()).findContracts(openApiSpec, hash)).isNull();
+  }
+
+  @Test
+  @DisplayName("Scale: Check that generated specifications are converted")
+  void convertGeneratedSpecifications(@TempDir final Path workspace) throws IOException {
+    final var generator = SpecificationGenerator.builder().paths(12).schemas(5).depth(3).externalFiles(2).avroPayloads(3).build();
+
+    final Collection<Contract> openApiContracts = multiApiContractConverter.convertFrom(generator.writeOpenApi(workspace));
+    final Collection<Contract> asyncApiContracts = multiApiContractConverter.convertFrom(generator.writeAsyncApi(workspace));
+    final Collection<Contract> composedContracts = multiApiContractConverter.convertFrom(generator.toBuilder().width(2).externalFiles(0).build().writeOpenApi(workspace));
+
+    assertThat(openApiContracts).hasSize(24);
+    assertThat(asyncApiContracts).hasSize(12);
+    assertThat(composedContracts).hasSizeGreaterThanOrEqualTo(24);
+  }
+
+  @Test
+  @DisplayName("MultiApi: Check that OpenAPI paths converted in parallel keep the sequential order")
+  void convertPathsInParallel(@TempDir final Path workspace) throws IOException {
+    final File specification = SpecificationGenerator.builder().paths(64).schemas(8).depth(3).build().writeOpenApi(workspace);
+    final var sequentialConverter = new MultiApiContractConverter(ConverterSettings.builder().parallelPaths(false).build());
+
+    final List<String> parallelNames = multiApiContractConverter.convertFrom(specification).stream().map(Contract::getName).collect(Collectors.toList());
+    final List<String> sequentialNames = sequentialConverter.convertFrom(specification).stream().map(Contract::getName).collect(Collectors.toList());
+    final List<String> streamedNames = multiApiContractConverter.streamFrom(specification).map(Contract::getName).collect(Collectors.toList());
+
+    assertThat(parallelNames).hasSize(128).isEqualTo(sequentialNames).isEqualTo(streamedNames);
+  }
+
+  private static void copyFixture(final Path source, final Path target, final String... fixtures) throws IOException {
+    for (final String fixture : fixtures) {
+      Files.createDirectories(target.resolve(fixture).getParent());
+      Files.copy(source.resolve(fixture), target.resolve(fixture));
+    }
+  }
+
+  private static void assertSameContent(final Contract actual, final Contract expected) {
+    if (Objects.nonNull(expected.getRequest())) {
+      assertThat(actual.getRequest().getBody()).isEqualTo(expected.getRequest().getBody());
+      assertThat(getMatchers(actual.getRequest().getBodyMatchers())).isEqualTo(getMatchers(expected.getRequest().getBodyMatchers()));
+      assertThat(actual.getResponse().getBody()).isEqualTo(expected.getResponse().getBody());
+      assertThat(getMatchers(actual.getResponse().getBodyMatchers())).isEqualTo(getMatchers(expected.getResponse().getBodyMatchers()));
+    } else {
+      assertThat(actual.getOutputMessage().getBody()).isEqualTo(expected.getOutputMessage().getBody());
+      assertThat(getMatchers(actual.getOutputMessage().getBodyMatchers())).isEqualTo(getMatchers(expected.getOutputMessage().getBodyMatchers()));
+    }
+  }
+
+  private static List<String> getMatchers(final BodyMatchers bodyMatchers) {
+    final List<BodyMatcher> matchers = Objects.isNull(bodyMatchers) ? List.of() : bodyMatchers.matchers();
+    return matchers.stream().map(matcher -> matcher.path() + " " + matcher.matchingType() + " " + matcher.value()).collect(Collectors.toList());
+  }
+
+  private static List<String> getNames(final List<Contract> contracts) {
+    return contracts.stream().map(Contract::getName).collect(Collectors.toList());
+  }
+}
@@ -7,6 +7,7 @@
 package com.sngular.multiapi.converter.asyncapi;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -15,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import com.sngular.multiapi.converter.MultiApiContractConverter;
+import com.sngular.multiapi.converter.exception.MultiApiContractConverterException;
 import com.sngular.multiapi.converter.util.FileHelper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -304,6 +306,59 @@ class AsyncApiContractConverterTest {
     }
   }
 
+  @Test
+  @DisplayName("AsyncApi: Check that references resolve to the exact pointed schema")
+  void testRefCollision() {
+    var contractList = getContracts(asyncApiContractConverterTestFixtures.TEST_REF_COLLISION_FILE);
+
+    assertThat(contractList).hasSize(1);
+    Map<String, Object> bodyValue = (Map<String, Object>) contractList.get(0).getOutputMessage().getBody().getClientValue();
+    assertThat(bodyValue).containsOnlyKeys("clientRef");
+  }
+
+  @Test
+  @DisplayName("AsyncApi: Check that a reference to a missing schema is rejected")
+  void testRefMissing() {
+    assertThatThrownBy(() -> getContracts(asyncApiContractConverterTestFixtures.TEST_REF_MISSING_FILE))
+        .isInstanceOf(MultiApiContractConverterException.class)
+        .hasMessageContaining("#/components/schemas/Order");
+  }
+
+  @Test
+  @DisplayName("AsyncApi: Check that channels sharing an avro schema get their own values and matchers")
+  void testAvro() {
+    var contractList = getContracts(asyncApiContractConverterTestFixtures.TEST_AVRO_FILE);
+
+    assertThat(contractList).hasSize(2);
+    for (Contract contract : contractList) {
+      Map<String, Object> bodyValue = (Map<String, Object>) contract.getOutputMessage().getBody().getClientValue();
+      assertThat(bodyValue).containsOnlyKeys("orderId", "clientName", "paid", "status", "address");
+      assertThat(bodyValue.get("status")).isIn("CREATED", "PAID");
+      assertThat((Map<String, Object>) bodyValue.get("address")).containsOnlyKeys("street");
+      assertThat(contract.getOutputMessage().getBodyMatchers().matchers()).hasSize(5);
+    }
+  }
+
+  @Test
+  @DisplayName("AsyncApi: Check that external files referencing each other are cut at the cycle and shared schemas are reused")
+  void testExternalFilesCycle() {
+    var contractList = getContracts(asyncApiContractConverterTestFixtures.TEST_EXTERNAL_FILES_CYCLE);
+
+    assertThat(contractList).hasSize(5);
+    Map<String, Object> orderValue = (Map<String, Object>) contractList.get(0).getOutputMessage().getBody().getClientValue();
+    assertThat(orderValue).containsOnlyKeys("orderId", "customer");
+    assertThat((Map<String, Object>) orderValue.get("customer")).containsOnlyKeys("customerName", "lastOrder").containsEntry("lastOrder", Map.of());
+
+    Map<String, Object> customerValue = (Map<String, Object>) contractList.get(2).getOutputMessage().getBody().getClientValue();
+    assertThat((Map<String, Object>) customerValue.get("lastOrder")).containsOnlyKeys("orderId", "customer").containsEntry("customer", Map.of());
+
+    Contract shipped = contractList.get(3);
+    Contract delivered = contractList.get(4);
+    assertThat(shipped.getOutputMessage().getBody().getClientValue()).isEqualTo(delivered.getOutputMessage().getBody().getClientValue())
+                                                                      .isNotSameAs(delivered.getOutputMessage().getBody().getClientValue());
+    assertThat(shipped.getOutputMessage().getBodyMatchers().matchers()).isEqualTo(delivered.getOutputMessage().getBodyMatchers().matchers());
+  }
+
   private List<Contract> getContracts(String filePath) {
     final File file = FileHelper.getFile(filePath);
     return new ArrayList<>(multiApiContractConverter.convertFrom(file));
@@ -28,6 +28,14 @@ public class AsyncApiContractConverterTestFixtures {
 
   protected final static String TEST_EXTERNAL_FILE = "/asyncapi/testExternalFiles.yml";
 
+  protected final static String TEST_REF_COLLISION_FILE = "/asyncapi/testRefCollision.yml";
+
+  protected final static String TEST_REF_MISSING_FILE = "/invalid/asyncapi/testRefMissing.yml";
+
+  protected final static String TEST_AVRO_FILE = "/asyncapi/testAvro.yml";
+
+  protected final static String TEST_EXTERNAL_FILES_CYCLE = "/asyncapi/testExternalFilesCycle.yml";
+
   protected final static String TEST_EXTERNAL_FILE_MULTIPLE_SCHEMAS = "/asyncapi/testExternalFilesWithMultipleSchemas.yml";
 
   protected final static String PUBLISH_NAME = "publishOperation";
@@ -0,0 +1,47 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+class AsyncApiContractConverterUtilsTest {
+
+  @Test
+  @DisplayName("Check that isNotRegexIncluded finds registered paths with and without the index")
+  void testIsNotRegexIncluded() {
+    final IndexedResponseBodyMatchers indexedMatchers = new IndexedResponseBodyMatchers();
+    final ResponseBodyMatchers plainMatchers = new ResponseBodyMatchers();
+    for (int i = 0; i < 600; i++) {
+      indexedMatchers.jsonPath("$.field" + i, indexedMatchers.byRegex("[0-9]+"));
+      plainMatchers.jsonPath("$.field" + i, plainMatchers.byRegex("[0-9]+"));
+    }
+
+    assertThat(AsyncApiContractConverterUtils.isNotRegexIncluded(indexedMatchers, "$.field599")).isFalse();
+    assertThat(AsyncApiContractConverterUtils.isNotRegexIncluded(indexedMatchers, "$.field600")).isTrue();
+    assertThat(AsyncApiContractConverterUtils.isNotRegexIncluded(plainMatchers, "$.field0")).isFalse();
+    assertThat(AsyncApiContractConverterUtils.isNotRegexIncluded(plainMatchers, "$.field600")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Check that the indexed matchers produce plain ResponseBodyMatchers with the same entries")
+  void testToResponseBodyMatchers() {
+    final IndexedResponseBodyMatchers indexedMatchers = new IndexedResponseBodyMatchers();
+    final ResponseBodyMatchers plainMatchers = new ResponseBodyMatchers();
+    indexedMatchers.jsonPath("$.name", indexedMatchers.byRegex("[a-z]+"));
+    plainMatchers.jsonPath("$.name", plainMatchers.byRegex("[a-z]+"));
+
+    final ResponseBodyMatchers built = indexedMatchers.toResponseBodyMatchers();
+
+    assertThat(built.getClass()).isEqualTo(ResponseBodyMatchers.class);
+    assertThat(built).isEqualTo(plainMatchers);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.asyncapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.sngular.multiapi.converter.utils.BasicTypeConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.contract.spec.internal.BodyMatcher;
+import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+
+class AsyncApiConversionContextTest {
+
+  private static final Path EXTERNAL_FILE = Path.of("src/test/resources/asyncapi/externalfiles/firstSchema.yml");
+
+  @Test
+  @DisplayName("AsyncApi: Check that a reused external schema adds every matcher it needs exactly once")
+  void testExternalSchemaMatchers() throws IOException {
+    final AsyncApiConversionContext context = new AsyncApiConversionContext(new File("src/test/resources/asyncapi/testExternalFiles.yml"), new HashSet<>());
+
+    final IndexedResponseBodyMatchers first = new IndexedResponseBodyMatchers();
+    first.jsonPath("$.tags[0]", first.byRegex(BasicTypeConstants.STRING_REGEX));
+    processExternalSchema(context, first);
+    assertThat(getPaths(first)).containsExactly("$.tags[0]", "$.name");
+
+    final IndexedResponseBodyMatchers second = new IndexedResponseBodyMatchers();
+    processExternalSchema(context, second);
+    assertThat(getPaths(second)).containsExactly("$.tags[0]", "$.name");
+
+    processExternalSchema(context, second);
+    assertThat(getPaths(second)).containsExactly("$.tags[0]", "$.name");
+  }
+
+  private static void processExternalSchema(final AsyncApiConversionContext context, final ResponseBodyMatchers responseBodyMatchers) throws IOException {
+    context.processExternalSchema(EXTERNAL_FILE, "/components/schemas/Order", BasicTypeConstants.PUBLISH, "", responseBodyMatchers, schemaMatchers -> {
+      if (AsyncApiContractConverterUtils.isNotRegexIncluded(schemaMatchers, "$.tags[0]")) {
+        schemaMatchers.jsonPath("$.tags[0]", schemaMatchers.byRegex(BasicTypeConstants.STRING_REGEX));
+      }
+      if (AsyncApiContractConverterUtils.isNotRegexIncluded(schemaMatchers, "$.name")) {
+        schemaMatchers.jsonPath("$.name", schemaMatchers.byRegex(BasicTypeConstants.STRING_REGEX));
+      }
+      final Map<String, Object> body = new HashMap<>();
+      body.put("tags", List.of("tag"));
+      body.put("name", "name");
+      return body;
+    });
+  }
+
+  private static List<String> getPaths(final ResponseBodyMatchers responseBodyMatchers) {
+    return responseBodyMatchers.matchers().stream().map(BodyMatcher::path).collect(Collectors.toList());
+  }
+}
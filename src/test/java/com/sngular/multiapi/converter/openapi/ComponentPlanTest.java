@@ -0,0 +1,55 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sngular.multiapi.converter.utils.BasicTypeConstants;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.contract.spec.internal.Body;
+import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+
+class ComponentPlanTest {
+
+  @Test
+  @DisplayName("OpenApi: Check that every instantiation of a component draws its own values and keeps the same matchers")
+  void instantiateComponentTwice() {
+    final AtomicInteger draws = new AtomicInteger();
+    final ComponentPlan player = ComponentPlan.compile(Pair.of(Map.of("name", ComponentPlan.generate(draws::incrementAndGet)), matchers("player.name")), Map.of());
+    final Map<String, Object> game = new HashMap<>();
+    game.put("gameId", ComponentPlan.generate(draws::incrementAndGet));
+    game.put("tags", new LinkedList<>(List.of(ComponentPlan.generate(draws::incrementAndGet))));
+    game.put("player", player.instantiate().getLeft());
+    final ComponentPlan plan = ComponentPlan.compile(Pair.of(game, matchers("gameId")), Map.of());
+    assertThat(draws).hasValue(0);
+
+    final Pair<Object, BodyMatchers> first = plan.instantiate();
+    final Pair<Object, BodyMatchers> second = plan.instantiate();
+    final Body firstBody = ComponentPlan.materialise(new Body(first.getLeft()));
+    final Body secondBody = ComponentPlan.materialise(new Body(second.getLeft()));
+
+    assertThat(first.getRight().matchers()).isEqualTo(second.getRight().matchers()).isNotSameAs(second.getRight().matchers());
+    assertThat((Map<String, Object>) firstBody.getClientValue()).containsOnlyKeys("gameId", "tags", "player").isEqualTo(firstBody.getServerValue());
+    assertThat((Map<String, Object>) secondBody.getClientValue()).containsOnlyKeys("gameId", "tags", "player").isNotEqualTo(firstBody.getClientValue());
+    assertThat(((Map<String, Object>) firstBody.getClientValue()).get("player")).isNotEqualTo(((Map<String, Object>) secondBody.getClientValue()).get("player"));
+    assertThat(draws).hasValue(6);
+  }
+
+  private static BodyMatchers matchers(final String path) {
+    final BodyMatchers bodyMatchers = new BodyMatchers();
+    bodyMatchers.jsonPath(path, bodyMatchers.byRegex(BasicTypeConstants.INT_REGEX));
+    return bodyMatchers;
+  }
+}
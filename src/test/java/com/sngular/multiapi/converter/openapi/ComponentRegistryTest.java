@@ -0,0 +1,61 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.openapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import com.sngular.multiapi.converter.openapi.ComponentRegistry.ComponentSource;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ComponentRegistryTest {
+
+  private static final String POINTER = "/components/schemas/Customer";
+
+  @Test
+  @DisplayName("OpenApi: Check that a component is shared by file and pointer while the file is unchanged")
+  void shareUnchangedComponent(@TempDir final Path directory) throws IOException {
+    final Path library = Files.writeString(directory.resolve("library.yml"), "components: {}");
+    final ComponentRegistry componentRegistry = new ComponentRegistry(2);
+    final ComponentSource first = componentRegistry.source(library, POINTER);
+    final ObjectSchema customer = new ObjectSchema();
+
+    final ComponentSource second = componentRegistry.source(directory.resolve("./library.yml"), POINTER);
+
+    assertThat(second.getKey()).isEqualTo(first.getKey());
+    assertThat(first.share(customer)).isSameAs(customer);
+    assertThat(second.share(new ObjectSchema())).isSameAs(customer);
+    assertThat(second.share(new StringSchema())).isInstanceOf(StringSchema.class);
+    assertThat(second.plans("customer")).isSameAs(first.plans("customer")).isNotSameAs(first.plans("owner"));
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that a modified file drops its shared components")
+  void dropModifiedComponent(@TempDir final Path directory) throws IOException {
+    final Path library = Files.writeString(directory.resolve("library.yml"), "components: {}");
+    final ComponentRegistry componentRegistry = new ComponentRegistry(2);
+    final ComponentSource first = componentRegistry.source(library, POINTER);
+    final ObjectSchema customer = new ObjectSchema();
+    first.share(customer);
+
+    Files.setLastModifiedTime(library, FileTime.fromMillis(Files.getLastModifiedTime(library).toMillis() + 1000));
+    final ComponentSource second = componentRegistry.source(library, POINTER);
+
+    assertThat(second.getKey()).isNotEqualTo(first.getKey());
+    assertThat(second.share(new ObjectSchema())).isNotSameAs(customer);
+    assertThat(componentRegistry.size()).isEqualTo(1);
+  }
+}
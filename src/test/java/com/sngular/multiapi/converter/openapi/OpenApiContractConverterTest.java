@@ -10,17 +10,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatObject;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import com.sngular.multiapi.converter.MultiApiContractConverter;
+import com.sngular.multiapi.converter.model.AnyOfStrategy;
+import com.sngular.multiapi.converter.model.ContractSelection;
+import com.sngular.multiapi.converter.model.ConverterSettings;
+import com.sngular.multiapi.converter.utils.BasicTypeConstants;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +40,9 @@ import org.springframework.cloud.contract.spec.Contract;
 import org.springframework.cloud.contract.spec.internal.Body;
 import org.springframework.cloud.contract.spec.internal.BodyMatcher;
 import org.springframework.cloud.contract.spec.internal.BodyMatchers;
+import org.springframework.cloud.contract.spec.internal.DslProperty;
 import org.springframework.cloud.contract.spec.internal.Header;
+import org.springframework.cloud.contract.spec.internal.Headers;
 import org.springframework.cloud.contract.spec.internal.MatchingStrategy;
 import org.springframework.cloud.contract.spec.internal.MatchingType;
 import org.springframework.cloud.contract.spec.internal.QueryParameter;
@@ -37,6 +50,7 @@ import org.springframework.cloud.contract.spec.internal.QueryParameters;
 import org.springframework.cloud.contract.spec.internal.Request;
 import org.springframework.cloud.contract.spec.internal.Response;
 import org.springframework.cloud.contract.spec.internal.ResponseBodyMatchers;
+import org.springframework.cloud.contract.spec.internal.Url;
 
 @Slf4j
 class OpenApiContractConverterTest {
@@ -59,6 +73,17 @@ class OpenApiContractConverterTest {
     assertThat(isAccepted).isTrue();
   }
 
+  @Test
+  @DisplayName("OpenApi: Testing that the header is only searched within the configured limits")
+  void isAcceptedWithinLimits() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_TEST_LATE_HEADER_YML);
+    assertThat(multiApiContractConverter.isAccepted(file)).isTrue();
+    final var limitedConverter = new MultiApiContractConverter(ConverterSettings.builder().detectionTokenLimit(3).build());
+    assertThat(limitedConverter.isAccepted(file)).isFalse();
+    final var limitedBytesConverter = new MultiApiContractConverter(ConverterSettings.builder().detectionByteLimit(16).build());
+    assertThat(limitedBytesConverter.isAccepted(file)).isFalse();
+  }
+
   @Test
   @DisplayName("OpenApi: Check if a contract is returned")
   void convertFromTest() {
@@ -544,4 +569,278 @@ class OpenApiContractConverterTest {
 
   }
 
-}
\ No newline at end of file
+  @Test
+  @DisplayName("OpenApi: Check that contracts sharing a component get the same shape with their own values")
+  void testSharedComponents() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_SHARED_COMPONENTS);
+    final List<Contract> contractList = new ArrayList<>(multiApiContractConverter.convertFrom(file));
+    assertThat(contractList).hasSize(2);
+    final Map<String, Object> gamesBody = (Map<String, Object>) contractList.get(0).getResponse().getBody().getServerValue();
+    final Map<String, Object> tournamentsBody = (Map<String, Object>) contractList.get(1).getResponse().getBody().getServerValue();
+    final Map<String, Object> gamesName = (Map<String, Object>) ((Map<String, Object>) gamesBody.get("player")).get("name");
+    final Map<String, Object> tournamentsName = (Map<String, Object>) ((Map<String, Object>) tournamentsBody.get("player")).get("name");
+    assertThat(gamesName).containsOnlyKeys("firstname", "lastname").isNotEqualTo(tournamentsName);
+    assertThat(tournamentsName).containsOnlyKeys("firstname", "lastname");
+    final BodyMatchers gamesMatchers = contractList.get(0).getResponse().getBodyMatchers();
+    final BodyMatchers tournamentsMatchers = contractList.get(1).getResponse().getBodyMatchers();
+    assertThat(gamesMatchers.matchers()).isEqualTo(tournamentsMatchers.matchers()).isNotSameAs(tournamentsMatchers.matchers());
+    ((Map<String, Object>) gamesBody.get("player")).clear();
+    assertThat((Map<String, Object>) tournamentsBody.get("player")).containsOnlyKeys("name");
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that anyOf combinations follow the configured strategy and limit")
+  void testAnyOfStrategies() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_ANY_OF_STRATEGIES);
+    assertThat(convertWithAnyOf(file, AnyOfStrategy.EACH, 64)).hasSize(4);
+    assertThat(convertWithAnyOf(file, AnyOfStrategy.ALL, 64)).hasSize(1);
+    assertThat(convertWithAnyOf(file, AnyOfStrategy.POWERSET, 64)).hasSize(15);
+    assertThat(convertWithAnyOf(file, AnyOfStrategy.POWERSET, 5)).hasSize(5);
+
+    final List<Contract> contractList = convertWithAnyOf(file, AnyOfStrategy.PAIRWISE, 64);
+    assertThat(contractList).hasSize(10);
+    assertThat((Map<String, Object>) contractList.get(0).getResponse().getBody().getServerValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID);
+    assertThat((Map<String, Object>) contractList.get(9).getResponse().getBody().getServerValue()).containsOnlyKeys("roomId", "points");
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that anyOf combinations with a branch without properties are merged")
+  void testAnyOfWithPrimitive() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_ANY_OF_WITH_PRIMITIVE);
+    final List<Contract> contractList = convertWithAnyOf(file, AnyOfStrategy.POWERSET, 64);
+    assertThat(contractList).hasSize(7);
+    assertThat((Map<String, Object>) contractList.get(0).getResponse().getBody().getServerValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID);
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that anyOf combinations keep their names and order by default")
+  void testAnyOfDefaultOrder() {
+    final List<Contract> anyOfs = new ArrayList<>(multiApiContractConverter.convertFrom(new File(OpenApiContractConverterTestFixtures.TEST_ANY_OFS_YML)));
+    assertThat(anyOfs).extracting(Contract::getName).containsExactly("POSTgames200Response_0", "POSTgames200Response_1", "POSTgames200Response_2");
+
+    final List<Contract> contractList = new ArrayList<>(multiApiContractConverter.convertFrom(new File(OpenApiContractConverterTestFixtures.OPENAPI_ANY_OF_THREE_SCHEMAS)));
+    assertThat(contractList)
+        .extracting(Contract::getName)
+        .containsExactly("POSTgames200Response_0", "POSTgames200Response_1", "POSTgames200Response_2", "POSTgames200Response_3", "POSTgames200Response_4",
+                         "POSTgames200Response_5", "POSTgames200Response_6");
+    assertThat(contractList)
+        .extracting(contract -> ((Map<String, Object>) contract.getResponse().getBody().getServerValue()).keySet())
+        .containsExactly(Set.of(OpenApiContractConverterTestFixtures.GAME_ID), Set.of(OpenApiContractConverterTestFixtures.PLAYER_NAME),
+                         Set.of(OpenApiContractConverterTestFixtures.ROOM_ID),
+                         Set.of(OpenApiContractConverterTestFixtures.PLAYER_NAME, OpenApiContractConverterTestFixtures.ROOM_ID),
+                         Set.of(OpenApiContractConverterTestFixtures.GAME_ID, OpenApiContractConverterTestFixtures.PLAYER_NAME),
+                         Set.of(OpenApiContractConverterTestFixtures.GAME_ID, OpenApiContractConverterTestFixtures.ROOM_ID),
+                         Set.of(OpenApiContractConverterTestFixtures.GAME_ID, OpenApiContractConverterTestFixtures.PLAYER_NAME, OpenApiContractConverterTestFixtures.ROOM_ID));
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that every response of an operation gets its own copy of the same request")
+  void testMultipleResponses() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_MULTIPLE_RESPONSES);
+    final List<Contract> contractList = new ArrayList<>(multiApiContractConverter.convertFrom(file));
+    assertThat(contractList).hasSize(3);
+    final Request createdRequest = contractList.get(0).getRequest();
+    for (Contract contract : contractList.subList(1, contractList.size())) {
+      assertThat(contract.getRequest()).isNotSameAs(createdRequest);
+      assertThat(contract.getRequest().getBody()).isEqualTo(createdRequest.getBody());
+      assertThat(contract.getRequest().getBodyMatchers()).isEqualTo(createdRequest.getBodyMatchers());
+      assertThat(contract.getRequest().getMethod()).isEqualTo(createdRequest.getMethod());
+    }
+    assertThat((Map<String, Object>) createdRequest.getBody().getServerValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID,
+                                                                                                   OpenApiContractConverterTestFixtures.PLAYER_NAME);
+    assertThat(contractList.get(2).getResponse().getStatus().getServerValue()).isEqualTo(500);
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that requests and responses are paired following the selection mode and limits")
+  void testContractSelection() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_CONTRACT_SELECTION);
+    final List<Contract> allPairs = convertWithSettings(file, ConverterSettings.builder().build());
+    assertThat(allPairs).hasSize(6);
+    assertThat(allPairs).extracting(Contract::getName)
+                        .containsExactly("POSTgames201Response_0", "POSTgames201Response_1", "POSTgames201Response_2", "POSTgames201Response_3",
+                                         "POSTgames400Response_0", "POSTgames400Response_1");
+
+    final List<Contract> eachRequest = convertWithSettings(file, ConverterSettings.builder().contractSelection(ContractSelection.EACH_REQUEST).build());
+    assertThat(eachRequest).hasSize(2);
+    assertThat(eachRequest).extracting(contract -> contract.getResponse().getStatus().getServerValue()).containsOnly(201);
+    assertThat(eachRequest.get(0).getRequest().getBody()).isNotEqualTo(eachRequest.get(1).getRequest().getBody());
+
+    final List<Contract> eachResponse = convertWithSettings(file, ConverterSettings.builder().contractSelection(ContractSelection.EACH_RESPONSE).build());
+    assertThat(eachResponse).hasSize(3);
+    assertThat(eachResponse).extracting(contract -> contract.getRequest().getBody()).containsOnly(eachResponse.get(0).getRequest().getBody());
+
+    assertThat(convertWithSettings(file, ConverterSettings.builder().operationContractLimit(4).build())).hasSize(4);
+    assertThat(convertWithSettings(file, ConverterSettings.builder().specificationContractLimit(3).build())).hasSize(3);
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that paths after the specification contract limit is reached are not processed")
+  void testSpecificationBudget() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_SPECIFICATION_BUDGET);
+    assertThat(convertWithSettings(file, ConverterSettings.builder().build())).isEmpty();
+    assertThat(convertWithSettings(file, ConverterSettings.builder().specificationContractLimit(2).parallelPaths(false).build())).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that parameters, request bodies and responses defined as components are resolved by the native reader")
+  void testComponentReferences() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_COMPONENT_REFERENCES);
+    final List<Contract> contractList = convertWithSettings(file, ConverterSettings.builder().nativeReader(true).build());
+    assertThat(contractList).hasSize(2);
+    final Contract listGames = contractList.get(0);
+    assertThat(listGames.getRequest().getUrlPath().getQueryParameters().getParameters()).extracting(QueryParameter::getName).containsExactly("limit");
+    final Contract createGame = contractList.get(1);
+    assertThat((Map<String, Object>) createGame.getRequest().getBody().getClientValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID,
+                                                                                                            OpenApiContractConverterTestFixtures.NAME);
+    for (Contract contract : contractList) {
+      assertThat((Map<String, Object>) contract.getResponse().getBody().getClientValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID,
+                                                                                                           OpenApiContractConverterTestFixtures.NAME)
+                                                                                          .containsEntry(OpenApiContractConverterTestFixtures.NAME, "chess");
+    }
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that every variant of a composed property gets its own body and matchers")
+  void testComposedProperty() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_COMPOSED_PROPERTY);
+    final List<Contract> contractList = new ArrayList<>(multiApiContractConverter.convertFrom(file));
+    assertThat(contractList).hasSize(2);
+    final Response playerResponse = contractList.get(0).getResponse();
+    final Response roomResponse = contractList.get(1).getResponse();
+    assertThat((Map<String, Object>) playerResponse.getBody().getServerValue()).containsOnlyKeys(OpenApiContractConverterTestFixtures.GAME_ID, "player",
+                                                                                                   OpenApiContractConverterTestFixtures.GAME_NAME);
+    assertThat(playerResponse.getBody().getServerValue()).isNotEqualTo(roomResponse.getBody().getServerValue());
+    assertThat(playerResponse.getBodyMatchers().matchers()).extracting(BodyMatcher::path).doesNotContain("roomId");
+    assertThat(roomResponse.getBodyMatchers().matchers()).extracting(BodyMatcher::path).doesNotContain("playerName");
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that recursive schemas stop at the configured depth with a placeholder")
+  void testRecursiveSchemas() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_RECURSIVE_SCHEMAS);
+    final List<Contract> contractList = convertWithSettings(file, ConverterSettings.builder().build());
+    assertThat(contractList).hasSize(3);
+
+    final Map<String, Object> category = (Map<String, Object>) contractList.get(1).getResponse().getBody().getServerValue();
+    assertThat(category).containsOnlyKeys(OpenApiContractConverterTestFixtures.NAME, "parent");
+    assertThat(category.get("parent")).asInstanceOf(InstanceOfAssertFactories.MAP).containsEntry("parent", Map.of());
+    assertThat(contractList.get(1).getResponse().getBodyMatchers().matchers()).extracting(BodyMatcher::path).contains("parent.parent");
+
+    final Map<String, Object> team = (Map<String, Object>) contractList.get(2).getResponse().getBody().getServerValue();
+    assertThat(team.get("captain")).asInstanceOf(InstanceOfAssertFactories.MAP).extractingByKey("team").asInstanceOf(InstanceOfAssertFactories.MAP)
+                                   .extractingByKey("captain").asInstanceOf(InstanceOfAssertFactories.MAP).containsEntry("team", Map.of());
+
+    final List<Contract> shallowList = convertWithSettings(file, ConverterSettings.builder().recursionDepth(1).build());
+    final Map<String, Object> shallowCategory = (Map<String, Object>) shallowList.get(1).getResponse().getBody().getServerValue();
+    assertThat(shallowCategory).containsEntry("parent", Map.of());
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that specs sharing an external library reuse its compiled components")
+  void testSharedLibrary() {
+    final List<Contract> contractList = multiApiContractConverter.convertFrom(List.of(new File(OpenApiContractConverterTestFixtures.OPENAPI_SHARED_LIBRARY_ORDERS),
+                                                                                      new File(OpenApiContractConverterTestFixtures.OPENAPI_SHARED_LIBRARY_INVOICES)));
+    assertThat(contractList).hasSize(3);
+    final Map<String, Object> order = (Map<String, Object>) contractList.get(0).getResponse().getBody().getServerValue();
+    final Map<String, Object> invoice = (Map<String, Object>) contractList.get(1).getResponse().getBody().getServerValue();
+    assertThat(order.get("customer")).isNotEqualTo(invoice.get("customer"));
+    assertThat(order.get("customer")).asInstanceOf(InstanceOfAssertFactories.MAP).containsOnlyKeys(OpenApiContractConverterTestFixtures.NAME, "address");
+    assertThat(invoice.get("customer")).asInstanceOf(InstanceOfAssertFactories.MAP).containsOnlyKeys(OpenApiContractConverterTestFixtures.NAME, "address");
+    assertThat((Map<String, Object>) contractList.get(2).getResponse().getBody().getServerValue()).containsOnlyKeys("email");
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check that media types with examples only generate the example contracts when examples are preferred")
+  void testPreferExamples() {
+    final File file = new File(OpenApiContractConverterTestFixtures.OPENAPI_PREFER_EXAMPLES);
+    assertThat(convertWithSettings(file, ConverterSettings.builder().build())).hasSize(7);
+
+    final List<Contract> contractList = convertWithSettings(file, ConverterSettings.builder().preferExamples(true).build());
+    assertThat(contractList).hasSize(3);
+    final Map<String, Object> chess = Map.of(OpenApiContractConverterTestFixtures.NAME, "chess", "players", 2);
+    assertThat(contractList.get(0).getResponse().getBodyMatchers().matchers()).extracting(BodyMatcher::path)
+                                                                               .containsExactly(OpenApiContractConverterTestFixtures.NAME, "players");
+    assertThat(asMap(contractList.get(1).getRequest().getBody())).isEqualTo(chess);
+    assertThat(contractList.get(1).getRequest().getBodyMatchers().matchers()).isEmpty();
+    assertThat(asMap(contractList.get(1).getResponse().getBody())).isEqualTo(chess);
+    assertThat(asMap(contractList.get(2).getResponse().getBody())).isEqualTo(Map.of(OpenApiContractConverterTestFixtures.NAME, "go", "players", 2));
+    assertThat(contractList.get(2).getResponse().getBodyMatchers().matchers()).isEmpty();
+  }
+
+  private static Map<String, Object> asMap(final Body body) {
+    return BasicTypeConstants.OBJECT_MAPPER.convertValue(body.getServerValue(), Map.class);
+  }
+
+  @Test
+  @DisplayName("OpenApi: Check the native reader generates the same contracts as the parser for every fixture")
+  void testNativeReader() throws IOException {
+    final File[] fixtures = new File(OpenApiContractConverterTestFixtures.OPENAPI_FIXTURES_DIRECTORY).listFiles((directory, name) -> name.endsWith(".yml"));
+    assertThat(fixtures).isNotEmpty();
+    for (final File fixture : fixtures) {
+      if (!multiApiContractConverter.isAccepted(fixture)) {
+        continue;
+      }
+      final String specification = Files.readString(fixture.toPath());
+      final List<Contract> parsed = convertWithSettings(fixture, ConverterSettings.builder().build());
+      final List<Contract> nativeRead = convertWithSettings(fixture, ConverterSettings.builder().nativeReader(true).build());
+      assertThat(nativeRead).as(fixture.getName()).extracting(contract -> describe(contract, specification)).containsExactlyElementsOf(
+          parsed.stream().map(contract -> describe(contract, specification)).collect(Collectors.toList()));
+    }
+  }
+
+  private static String describe(final Contract contract, final String specification) {
+    final Request request = contract.getRequest();
+    final Response response = contract.getResponse();
+    final Url url = Objects.nonNull(request.getUrl()) ? request.getUrl() : request.getUrlPath();
+    return String.join(" ", contract.getName(), String.valueOf(request.getMethod().getClientValue()), String.valueOf(url.getClientValue()),
+                       queryParameterNames(url.getQueryParameters()), headerNames(request.getHeaders()), String.valueOf(response.getStatus().getClientValue()),
+                       headerNames(response.getHeaders()), matcherPaths(request.getBodyMatchers(), specification),
+                       matcherPaths(response.getBodyMatchers(), specification), bodyShape(request.getBody(), specification),
+                       bodyShape(response.getBody(), specification));
+  }
+
+  private static String bodyShape(final Object value, final String specification) {
+    final String shape;
+    if (value instanceof DslProperty) {
+      shape = bodyShape(((DslProperty<?>) value).getClientValue(), specification);
+    } else if (value instanceof JsonNode) {
+      shape = bodyShape(BasicTypeConstants.OBJECT_MAPPER.convertValue(value, Object.class), specification);
+    } else if (value instanceof Map) {
+      shape = ((Map<?, ?>) value).entrySet().stream()
+                                 .map(entry -> maskGeneratedKeys(String.valueOf(entry.getKey()), specification) + "=" + bodyShape(entry.getValue(), specification))
+                                 .sorted()
+                                 .collect(Collectors.joining(",", "{", "}"));
+    } else if (value instanceof List) {
+      shape = ((List<?>) value).stream().map(element -> bodyShape(element, specification)).collect(Collectors.joining(",", "[", "]"));
+    } else {
+      shape = Objects.isNull(value) ? "" : value.getClass().getSimpleName();
+    }
+    return shape;
+  }
+
+  private static String queryParameterNames(final QueryParameters queryParameters) {
+    return Objects.isNull(queryParameters) ? "" : queryParameters.getParameters().stream().map(QueryParameter::getName).collect(Collectors.joining(","));
+  }
+
+  private static String headerNames(final Headers headers) {
+    return Objects.isNull(headers) ? "" : headers.getEntries().stream().map(Header::getName).collect(Collectors.joining(","));
+  }
+
+  private static String matcherPaths(final BodyMatchers bodyMatchers, final String specification) {
+    return Objects.isNull(bodyMatchers) ? "" : bodyMatchers.matchers().stream().map(matcher -> maskGeneratedKeys(matcher.path(), specification)).collect(Collectors.joining(","));
+  }
+
+  private static String maskGeneratedKeys(final String path, final String specification) {
+    return Arrays.stream(path.split("\\.")).map(segment -> specification.contains(segment.replaceAll("\\[\\d+]", "")) ? segment : "*").collect(Collectors.joining("."));
+  }
+
+  private static List<Contract> convertWithSettings(final File file, final ConverterSettings settings) {
+    return new ArrayList<>(new MultiApiContractConverter(settings).convertFrom(file));
+  }
+
+  private static List<Contract> convertWithAnyOf(final File file, final AnyOfStrategy strategy, final int limit) {
+    return convertWithSettings(file, ConverterSettings.builder().anyOfStrategy(strategy).anyOfLimit(limit).build());
+  }
+
+}
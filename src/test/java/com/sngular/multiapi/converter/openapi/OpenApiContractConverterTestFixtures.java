@@ -48,10 +48,20 @@ public final class OpenApiContractConverterTestFixtures {
 
   static final String LASTNAME = "lastname";
 
+  static final String OPENAPI_SHARED_LIBRARY_ORDERS = "src/test/resources/openapi/testSharedLibraryOrders.yml";
+
+  static final String OPENAPI_SHARED_LIBRARY_INVOICES = "src/test/resources/openapi/testSharedLibraryInvoices.yml";
+
+  static final String OPENAPI_PREFER_EXAMPLES = "src/test/resources/openapi/testPreferExamples.yml";
+
+  static final String OPENAPI_FIXTURES_DIRECTORY = "src/test/resources/openapi";
+
   static final String OPENAPI_TEST_FALSE_YML = "src/test/resources/openapi/testFalse.yml";
 
   static final String OPENAPI_TEST_COMPLETE_API_YML = "src/test/resources/openapi/testCompleteApi.yml";
 
+  static final String OPENAPI_TEST_LATE_HEADER_YML = "src/test/resources/openapi/testLateHeader.yml";
+
   static final String OPENAPI_TEST_REQUEST_HEADERS_YML = "src/test/resources/openapi/testRequestHeaders.yml";
 
   static final String OPENAPI_TEST_EXTERNAL_REF = "src/test/resources/openapi/testExternalRef.yml";
@@ -98,6 +108,26 @@ public final class OpenApiContractConverterTestFixtures {
 
   static final String OPENAPI_DUPLICATE_IDS = "src/test/resources/openapi/testDuplicateIds.yml";
 
+  static final String OPENAPI_SHARED_COMPONENTS = "src/test/resources/openapi/testSharedComponents.yml";
+
+  static final String OPENAPI_ANY_OF_STRATEGIES = "src/test/resources/openapi/testAnyOfStrategies.yml";
+
+  static final String OPENAPI_ANY_OF_WITH_PRIMITIVE = "src/test/resources/openapi/testAnyOfWithPrimitive.yml";
+
+  static final String OPENAPI_ANY_OF_THREE_SCHEMAS = "src/test/resources/openapi/testAnyOfThreeSchemas.yml";
+
+  static final String OPENAPI_SPECIFICATION_BUDGET = "src/test/resources/openapi/testSpecificationBudget.yml";
+
+  static final String OPENAPI_COMPONENT_REFERENCES = "src/test/resources/openapi/testComponentReferences.yml";
+
+  static final String OPENAPI_MULTIPLE_RESPONSES = "src/test/resources/openapi/testMultipleResponses.yml";
+
+  static final String OPENAPI_CONTRACT_SELECTION = "src/test/resources/openapi/testContractSelection.yml";
+
+  static final String OPENAPI_COMPOSED_PROPERTY = "src/test/resources/openapi/testComposedProperty.yml";
+
+  static final String OPENAPI_RECURSIVE_SCHEMAS = "src/test/resources/openapi/testRecursiveSchemas.yml";
+
   static final String NAME = "name";
 
   static final String CONTENT_TYPE = "Content-Type";
@@ -0,0 +1,81 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.openapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SchemaOverlayTest {
+
+  @Test
+  @DisplayName("Check that the overlay shows the first branch with the merged properties and leaves the branches untouched")
+  void testOverlay() {
+    final Schema<Object> game = new ObjectSchema().description("Game").addProperty("gameId", new StringSchema());
+    final Schema<Object> player = new ObjectSchema().description("Player").addProperty("playerName", new StringSchema());
+
+    final SchemaOverlay overlay = new SchemaOverlay(List.of(game, player));
+
+    assertThat(overlay.getType()).isEqualTo("object");
+    assertThat(overlay.getDescription()).isEqualTo("Game");
+    assertThat(overlay.getProperties()).containsOnlyKeys("gameId", "playerName");
+    assertThat(overlay.getProperties().get("gameId")).isSameAs(game.getProperties().get("gameId"));
+    assertThat(game.getProperties()).containsOnlyKeys("gameId");
+  }
+
+  @Test
+  @DisplayName("Check that the first branch wins for properties and attributes while later branches keep the key order")
+  void testOverlayPrecedence() {
+    final Schema<Object> game = new ObjectSchema().title("Game").addProperty("points", new IntegerSchema()).addProperty("gameId", new IntegerSchema());
+    final Schema<Object> room = new ObjectSchema().title("Room").addProperty("gameId", new StringSchema()).addProperty("roomId", new StringSchema());
+
+    final SchemaOverlay overlay = new SchemaOverlay(List.of(game, room));
+
+    assertThat(overlay.getProperties()).hasSize(3).containsKey("points");
+    assertThat(new ArrayList<>(overlay.getProperties().keySet())).containsExactly("gameId", "roomId", "points");
+    assertThat(overlay.getProperties().get("gameId")).isSameAs(game.getProperties().get("gameId"));
+    assertThat(overlay.getTitle()).isEqualTo("Game");
+  }
+
+  @Test
+  @DisplayName("Check that items, additional properties, references and extensions come from the first branch carrying them")
+  void testOverlayDelegation() {
+    final Schema<Object> game = new ObjectSchema().addProperty("gameId", new IntegerSchema());
+    final StringSchema items = new StringSchema();
+    final ArraySchema tags = new ArraySchema().items(items);
+    tags.setAdditionalProperties(Boolean.TRUE);
+    tags.set$ref("#/components/schemas/Tags");
+    tags.setExtensions(Map.of("x-game", "tags"));
+
+    final SchemaOverlay overlay = new SchemaOverlay(List.of(game, tags));
+
+    assertThat(overlay.getItems()).isSameAs(items);
+    assertThat(overlay.getAdditionalProperties()).isEqualTo(Boolean.TRUE);
+    assertThat(overlay.get$ref()).isEqualTo("#/components/schemas/Tags");
+    assertThat(overlay.getExtensions()).containsEntry("x-game", "tags");
+    assertThat(overlay.getType()).isEqualTo("object");
+  }
+
+  @Test
+  @DisplayName("Check that the overlay has no properties when no branch has them")
+  void testOverlayWithoutProperties() {
+    final SchemaOverlay overlay = new SchemaOverlay(List.of(new StringSchema()));
+
+    assertThat(overlay.getType()).isEqualTo("string");
+    assertThat(overlay.getProperties()).isNull();
+  }
+}
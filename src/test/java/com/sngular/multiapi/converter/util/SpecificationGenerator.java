@@ -0,0 +1,189 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sngular.multiapi.converter.utils.BasicTypeConstants;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder(toBuilder = true)
+public class SpecificationGenerator {
+
+  private static final String EXTERNAL_FOLDER = "external";
+
+  private static final String AVRO_FOLDER = "avro";
+
+  @Builder.Default
+  int paths = 10;
+
+  @Builder.Default
+  int schemas = 10;
+
+  @Builder.Default
+  int depth = 1;
+
+  @Builder.Default
+  int width = 0;
+
+  @Builder.Default
+  int externalFiles = 0;
+
+  @Builder.Default
+  int avroPayloads = 0;
+
+  public File writeOpenApi(final Path directory) throws IOException {
+    final ObjectNode root = header("openapi", "3.0.0");
+    root.putArray("servers").addObject().put("url", "http://localhost:8080/v1");
+
+    final ObjectNode pathsNode = root.putObject("paths");
+    for (int path = 0; path < paths; path++) {
+      final ObjectNode pathItem = pathsNode.putObject("/resource" + path);
+      pathItem.put("summary", "Resource " + path);
+      final ObjectNode get = pathItem.putObject("get");
+      get.put("operationId", "getResource" + path);
+      addOpenApiResponse(get, "200", openApiResponseSchema(path));
+      final ObjectNode post = pathItem.putObject("post");
+      post.put("operationId", "createResource" + path);
+      post.putObject("requestBody").put("required", true).putObject("content").putObject("application/json").set("schema", ref("#/components/schemas/Schema" + path % schemas));
+      addOpenApiResponse(post, "201", ref("#/components/schemas/Schema" + (path + 1) % schemas));
+    }
+
+    final ObjectNode schemasNode = root.putObject("components").putObject("schemas");
+    for (int schema = 0; schema < schemas; schema++) {
+      schemasNode.set("Schema" + schema, objectSchema(depth));
+    }
+    if (width > 0) {
+      for (int path = 0; path < paths; path++) {
+        final ArrayNode members = schemasNode.putObject("Composed" + path).putArray(path % 2 == 0 ? "anyOf" : "oneOf");
+        for (int member = 0; member < width; member++) {
+          members.add(ref("#/components/schemas/Schema" + (path + member) % schemas));
+        }
+      }
+    }
+    for (int external = 0; external < externalFiles; external++) {
+      writeExternalFile(directory, external, "components");
+    }
+    return write(directory.resolve("openapi-" + paths + "-" + schemas + "-" + depth + "-" + width + ".yml"), root);
+  }
+
+  public File writeAsyncApi(final Path directory) throws IOException {
+    final ObjectNode root = header("asyncapi", "2.3.0");
+
+    final ObjectNode channels = root.putObject("channels");
+    for (int channel = 0; channel < paths; channel++) {
+      final ObjectNode operation = channels.putObject("channel" + channel).putObject(channel % 2 == 0 ? "publish" : "subscribe");
+      operation.put("operationId", "operation" + channel);
+      if (channel < avroPayloads) {
+        operation.set("message", ref(AVRO_FOLDER + "/Payload" + channel + ".avsc"));
+      } else {
+        operation.set("message", ref("#/components/messages/Message" + channel));
+      }
+    }
+
+    final ObjectNode components = root.putObject("components");
+    final ObjectNode messages = components.putObject("messages");
+    for (int channel = avroPayloads; channel < paths; channel++) {
+      final JsonNode payload;
+      if (externalFiles > 0 && channel % 2 == 1) {
+        final int external = channel % externalFiles;
+        payload = ref("./" + EXTERNAL_FOLDER + "/schemas" + external + ".yml#/components/schemas/External" + external);
+      } else {
+        payload = ref("#/components/schemas/Payload" + channel % schemas);
+      }
+      messages.putObject("Message" + channel).set("payload", payload);
+    }
+    final ObjectNode schemasNode = components.putObject("schemas");
+    for (int schema = 0; schema < schemas; schema++) {
+      schemasNode.set("Payload" + schema, objectSchema(depth));
+    }
+    for (int external = 0; external < externalFiles; external++) {
+      writeExternalFile(directory, external, "schemas");
+    }
+    for (int avro = 0; avro < Math.min(avroPayloads, paths); avro++) {
+      write(directory.resolve(AVRO_FOLDER).resolve("Payload" + avro + ".avsc"), avroRecord("Payload" + avro, depth));
+    }
+    return write(directory.resolve("asyncapi-" + paths + "-" + schemas + "-" + depth + ".yml"), root);
+  }
+
+  private JsonNode openApiResponseSchema(final int path) {
+    final JsonNode schema;
+    if (externalFiles > 0 && path % 2 == 1) {
+      final int external = path % externalFiles;
+      schema = ref(EXTERNAL_FOLDER + "/components" + external + ".yml#/components/schemas/External" + external);
+    } else if (width > 0) {
+      schema = ref("#/components/schemas/Composed" + path);
+    } else {
+      schema = ref("#/components/schemas/Schema" + path % schemas);
+    }
+    return schema;
+  }
+
+  private void writeExternalFile(final Path directory, final int external, final String prefix) throws IOException {
+    final ObjectNode root = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
+    root.putObject("components").putObject("schemas").set("External" + external, objectSchema(depth));
+    write(directory.resolve(EXTERNAL_FOLDER).resolve(prefix + external + ".yml"), root);
+  }
+
+  private static void addOpenApiResponse(final ObjectNode operation, final String status, final JsonNode schema) {
+    final ObjectNode response = operation.putObject("responses").putObject(status);
+    response.put("description", "Response " + status);
+    response.putObject("content").putObject("application/json").set("schema", schema);
+  }
+
+  private static ObjectNode header(final String specification, final String version) {
+    final ObjectNode root = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
+    root.put(specification, version);
+    root.putObject("info").put("title", "Generated " + specification).put("version", "1.0.0");
+    return root;
+  }
+
+  private static ObjectNode objectSchema(final int level) {
+    final ObjectNode schema = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
+    schema.put("type", "object");
+    final ObjectNode properties = schema.putObject("properties");
+    properties.putObject("id").put("type", "integer").put("format", "int32").put("example", level);
+    properties.putObject("name").put("type", "string").put("example", "name" + level);
+    properties.putObject("active").put("type", "boolean").put("example", true);
+    if (level > 1) {
+      properties.set("child", objectSchema(level - 1));
+    }
+    return schema;
+  }
+
+  private static ObjectNode avroRecord(final String name, final int level) {
+    final ObjectNode record = BasicTypeConstants.OBJECT_MAPPER.createObjectNode();
+    record.put("type", "record");
+    record.put("name", name);
+    final ArrayNode fields = record.putArray("fields");
+    fields.addObject().put("name", "id").put("type", "long");
+    fields.addObject().put("name", "name").put("type", "string");
+    fields.addObject().put("name", "active").put("type", "boolean");
+    if (level > 1) {
+      fields.addObject().put("name", "child").set("type", avroRecord(name + "Child", level - 1));
+    }
+    return record;
+  }
+
+  private static ObjectNode ref(final String target) {
+    return BasicTypeConstants.OBJECT_MAPPER.createObjectNode().put("$ref", target);
+  }
+
+  private static File write(final Path target, final JsonNode content) throws IOException {
+    Files.createDirectories(target.getParent());
+    BasicTypeConstants.OBJECT_MAPPER.writeValue(target.toFile(), content);
+    return target.toFile();
+  }
+}
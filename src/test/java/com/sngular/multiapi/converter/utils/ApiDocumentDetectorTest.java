@@ -0,0 +1,85 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package com.sngular.multiapi.converter.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.sngular.multiapi.converter.model.ConverterSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiDocumentDetectorTest {
+
+  private static final int LARGE_VALUE_ENTRIES = 20_000;
+
+  @Test
+  @DisplayName("Detector: Check that a document is accepted when its api key comes after small values")
+  void detectApiDocument() {
+    final ApiDocumentDetector detector = new ApiDocumentDetector(ConverterSettings.DEFAULT_DETECTION_BYTE_LIMIT, ConverterSettings.DEFAULT_DETECTION_TOKEN_LIMIT);
+
+    assertThat(detector.isApiDocument(toStream("info:\n  title: Games\nopenapi: 3.0.0\n"))).isTrue();
+    assertThat(detector.isApiDocument(toStream("info:\n  title: Games\n"))).isFalse();
+  }
+
+  @Test
+  @DisplayName("Detector: Check that a large leading value is not read past the byte limit")
+  void detectWithLargeLeadingValue() throws IOException {
+    final StringBuilder content = new StringBuilder("x-large:\n");
+    for (int entry = 0; entry < LARGE_VALUE_ENTRIES; entry++) {
+      content.append("  entry").append(entry).append(":\n    value: ").append(entry).append('\n');
+    }
+    content.append("openapi: 3.0.0\n");
+    final long byteLimit = ConverterSettings.DEFAULT_DETECTION_BYTE_LIMIT;
+    final CountingInputStream input = new CountingInputStream(toStream(content.toString()));
+
+    assertThat(new ApiDocumentDetector(byteLimit, ConverterSettings.DEFAULT_DETECTION_TOKEN_LIMIT).isApiDocument(input)).isFalse();
+    assertThat(content.length()).isGreaterThan(8 * (int) byteLimit);
+    assertThat(input.getCount()).isLessThan(2 * byteLimit);
+    assertThat(new ApiDocumentDetector(content.length(), ConverterSettings.DEFAULT_DETECTION_TOKEN_LIMIT).isApiDocument(toStream(content.toString()))).isTrue();
+  }
+
+  private static InputStream toStream(final String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static final class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    private CountingInputStream(final InputStream input) {
+      super(input);
+    }
+
+    @Override
+    public int read() throws IOException {
+      final int read = super.read();
+      if (read >= 0) {
+        count++;
+      }
+      return read;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+      final int read = super.read(buffer, offset, length);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+
+    private long getCount() {
+      return count;
+    }
+  }
+}
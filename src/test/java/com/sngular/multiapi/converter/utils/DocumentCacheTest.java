@@ -0,0 +1,78 @@
+/*
+ *  This Source Code Form is subject to the terms of the Mozilla Public
+ *  * License, v. 2.0. If a copy of the MPL was not distributed with this
+ *  * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+
+package com.sngular.multiapi.converter.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DocumentCacheTest {
+
+  @Test
+  @DisplayName("Cache: Check that an unchanged document is parsed only once")
+  void readUnchangedDocument(@TempDir final Path directory) throws IOException {
+    final Path document = Files.writeString(directory.resolve("schemas.yml"), "components: {}");
+    final DocumentCache documentCache = new DocumentCache(2);
+
+    final JsonNode first = documentCache.read(document);
+
+    assertThat(documentCache.read(directory.resolve("./schemas.yml"))).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("Cache: Check that a modified document is parsed again")
+  void readModifiedDocument(@TempDir final Path directory) throws IOException {
+    final Path document = Files.writeString(directory.resolve("schemas.yml"), "components: {}");
+    final DocumentCache documentCache = new DocumentCache(2);
+    final JsonNode first = documentCache.read(document);
+
+    Files.writeString(document, "components: {schemas: {}}");
+    Files.setLastModifiedTime(document, FileTime.fromMillis(Files.getLastModifiedTime(document).toMillis() + 1000));
+
+    assertThat(documentCache.read(document)).isNotSameAs(first).isNotEqualTo(first);
+  }
+
+  @Test
+  @DisplayName("Cache: Check that the least recently used document is evicted")
+  void evictLeastRecentlyUsed(@TempDir final Path directory) throws IOException {
+    final DocumentCache documentCache = new DocumentCache(2);
+    final Path first = Files.writeString(directory.resolve("first.yml"), "first: 1");
+    final Path second = Files.writeString(directory.resolve("second.yml"), "second: 2");
+    final Path third = Files.writeString(directory.resolve("third.yml"), "third: 3");
+    final JsonNode firstContent = documentCache.read(first);
+    final JsonNode secondContent = documentCache.read(second);
+    documentCache.read(first);
+
+    documentCache.read(third);
+
+    assertThat(documentCache.size()).isEqualTo(2);
+    assertThat(documentCache.read(first)).isSameAs(firstContent);
+    assertThat(documentCache.read(second)).isNotSameAs(secondContent);
+  }
+
+  @Test
+  @DisplayName("Cache: Check that a compiled form is reused until the document changes")
+  void compileUnchangedDocument(@TempDir final Path directory) throws IOException {
+    final Path document = Files.writeString(directory.resolve("schemas.yml"), "components: {}");
+    final DocumentCache documentCache = new DocumentCache(2);
+
+    final String first = documentCache.compile(document, String.class, JsonNode::toString);
+
+    assertThat(documentCache.compile(document, String.class, content -> "recompiled")).isSameAs(first);
+    Files.setLastModifiedTime(document, FileTime.fromMillis(Files.getLastModifiedTime(document).toMillis() + 1000));
+    assertThat(documentCache.compile(document, String.class, content -> "recompiled")).isEqualTo("recompiled");
+  }
+}